@@ -0,0 +1,123 @@
+package com.turtlecoin.auctionservice.domain.auction.broadcast;
+
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 경매별 입찰 브로드캐스트를 tick 단위로 묶어서 전송
+// auction.bid.coalesce.enabled=true 일 때만 동작한다.
+// 직전 전송 후 tick 이 지났으면(한가하면) 바로 보내고, 아니면 최신 입찰 하나만 들고 있다가 다음 tick 에 보낸다.
+// 전송되는 메시지의 bidCount 는 그 메시지에 합쳐진 입찰 수다.
+// 입찰 결과가 순번과 다른 순서로 도착할 수 있으므로, 이미 받은 순번보다 작은 입찰은 최신 입찰로 쓰지 않는다.
+@Slf4j
+@Component
+public class BidBroadcastCoalescer {
+    private final TaskScheduler taskScheduler;
+    private final Map<Long, PendingBroadcast> pendings = new ConcurrentHashMap<>();
+
+    @Value("${auction.bid.coalesce.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.bid.coalesce.tick-ms:50}")
+    private long tickMillis;
+
+    public BidBroadcastCoalescer(@Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.taskScheduler = taskScheduler;
+    }
+
+    public void publish(Long auctionId, BidMessage bidMessage, Consumer<BidMessage> sender) {
+        if (!enabled) {
+            sender.accept(bidMessage.toBuilder().bidCount(1).build());
+            return;
+        }
+
+        PendingBroadcast pending = pendings.computeIfAbsent(auctionId, id -> new PendingBroadcast());
+        BidMessage sendNow = null;
+        long flushAt = 0;
+        synchronized (pending) {
+            long now = System.currentTimeMillis();
+            pending.sender = sender;
+            if (isStale(bidMessage, pending.maxSeq)) {
+                // 더 높은 입찰이 이미 전송됐거나 대기 중
+                if (pending.latest != null) {
+                    pending.count++;
+                }
+                return;
+            }
+            if (bidMessage.getSeq() != null) {
+                pending.maxSeq = bidMessage.getSeq();
+            }
+            if (pending.latest == null && now - pending.lastFlushAt >= tickMillis) {
+                pending.lastFlushAt = now;
+                sendNow = bidMessage.toBuilder().bidCount(1).build();
+            } else {
+                pending.latest = bidMessage;
+                pending.count++;
+                if (!pending.scheduled) {
+                    pending.scheduled = true;
+                    flushAt = pending.lastFlushAt + tickMillis;
+                }
+            }
+        }
+
+        if (sendNow != null) {
+            sender.accept(sendNow);
+        } else if (flushAt > 0) {
+            taskScheduler.schedule(() -> flush(auctionId), Instant.ofEpochMilli(flushAt));
+        }
+    }
+
+    // 경매 종료 시 남은 입찰을 먼저 보내고 정리
+    public void remove(Long auctionId) {
+        flush(auctionId);
+        pendings.remove(auctionId);
+    }
+
+    private void flush(Long auctionId) {
+        PendingBroadcast pending = pendings.get(auctionId);
+        if (pending == null) {
+            return;
+        }
+
+        BidMessage message;
+        Consumer<BidMessage> sender;
+        synchronized (pending) {
+            pending.scheduled = false;
+            if (pending.latest == null) {
+                return;
+            }
+            message = pending.latest.toBuilder().bidCount(pending.count).build();
+            sender = pending.sender;
+            pending.latest = null;
+            pending.count = 0;
+            pending.lastFlushAt = System.currentTimeMillis();
+        }
+
+        try {
+            sender.accept(message);
+        } catch (Exception e) {
+            log.error("입찰 정보 전송 실패: auctionId = {}", auctionId, e);
+        }
+    }
+
+    private static boolean isStale(BidMessage bidMessage, long maxSeq) {
+        return bidMessage.getSeq() != null && bidMessage.getSeq() <= maxSeq;
+    }
+
+    private static class PendingBroadcast {
+        private BidMessage latest;
+        private long maxSeq;
+        private int count;
+        private long lastFlushAt;
+        private boolean scheduled;
+        private Consumer<BidMessage> sender;
+    }
+}
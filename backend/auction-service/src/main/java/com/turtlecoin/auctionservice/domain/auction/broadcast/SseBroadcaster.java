@@ -0,0 +1,146 @@
+package com.turtlecoin.auctionservice.domain.auction.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turtlecoin.auctionservice.domain.auction.repository.EmitterRepository;
+import com.turtlecoin.auctionservice.domain.global.internal.EmitterMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 경매 SSE 구독자에게 이벤트 전송
+// 이벤트는 한 번만 직렬화하고, 구독자를 batch-size 단위로 나눠 sseExecutor 에서 쓴다. (요청 스레드는 바로 반환)
+// 구독자마다 이벤트 큐를 두고 한 번에 한 스레드만 쓰며, 전송에 실패했거나 큐가 가득 찰 만큼 밀린 구독자는 제거한다.
+// 끊긴 연결을 찾고 프록시 idle timeout 을 막기 위해 주기적으로 heartbeat 주석을 보낸다.
+@Slf4j
+@Component
+public class SseBroadcaster {
+    private static final String EVENT_NAME = "sse";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EmitterRepository emitterRepository;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor sseExecutor;
+    private final TaskScheduler taskScheduler;
+    private final SseStreamHub sseStreamHub;
+    private final SseEventBus sseEventBus;
+
+    @Value("${auction.sse.batch-size:256}")
+    private int batchSize;
+
+    @Value("${auction.sse.heartbeat-ms:15000}")
+    private long heartbeatMillis;
+
+    public SseBroadcaster(EmitterRepository emitterRepository,
+                          ObjectMapper objectMapper,
+                          @Qualifier("sseExecutor") ThreadPoolTaskExecutor sseExecutor,
+                          @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                          SseStreamHub sseStreamHub,
+                          SseEventBus sseEventBus) {
+        this.emitterRepository = emitterRepository;
+        this.objectMapper = objectMapper;
+        this.sseExecutor = sseExecutor;
+        this.taskScheduler = taskScheduler;
+        this.sseStreamHub = sseStreamHub;
+        this.sseEventBus = sseEventBus;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.scheduleAtFixedRate(this::heartbeat, Duration.ofMillis(heartbeatMillis));
+    }
+
+    // 이벤트는 SseEventBus 를 거쳐 모든 서버의 deliver 로 전달된다.
+    public void broadcast(Long auctionId, Object event) {
+        try {
+            sseEventBus.publish(auctionId, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: auctionId = {}", auctionId, e);
+        }
+    }
+
+    // 이 서버의 SseEmitter 구독자와 Flux 스트림 구독자(SseStreamHub)에게 같은 이벤트를 보낸다.
+    // eventId 는 재연결 시 Last-Event-ID 로 돌아온다. (Redis 에 남기지 못한 이벤트는 경매 id)
+    public void deliver(Long auctionId, String eventId, String data) {
+        String id = eventId != null ? eventId : String.valueOf(auctionId);
+        sseStreamHub.publish(auctionId, id, data);
+
+        Collection<EmitterMapper> mappers = emitterRepository.get(auctionId);
+        if (mappers.isEmpty()) {
+            return;
+        }
+        dispatch(auctionId, mappers, toPayload(id, data));
+    }
+
+    // 재연결한 구독자에게 놓친 이벤트 전송
+    public void replay(SseEmitter emitter, Map<String, String> events) throws IOException {
+        for (Map.Entry<String, String> event : events.entrySet()) {
+            emitter.send(toPayload(event.getKey(), event.getValue()));
+        }
+    }
+
+    private Set<DataWithMediaType> toPayload(String id, String data) {
+        return SseEmitter.event()
+                .id(id)
+                .name(EVENT_NAME)
+                .data(data)
+                .build();
+    }
+
+    private void heartbeat() {
+        Set<DataWithMediaType> payload = SseEmitter.event().comment(HEARTBEAT_COMMENT).build();
+        for (Long auctionId : emitterRepository.getIds()) {
+            dispatch(auctionId, emitterRepository.get(auctionId), payload);
+        }
+    }
+
+    private void dispatch(Long auctionId, Collection<EmitterMapper> mappers, Set<DataWithMediaType> payload) {
+        List<EmitterMapper> batch = new ArrayList<>(batchSize);
+        for (EmitterMapper mapper : mappers) {
+            batch.add(mapper);
+            if (batch.size() == batchSize) {
+                submit(auctionId, batch, payload);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            submit(auctionId, batch, payload);
+        }
+    }
+
+    private void submit(Long auctionId, List<EmitterMapper> batch, Set<DataWithMediaType> payload) {
+        try {
+            sseExecutor.execute(() -> batch.forEach(mapper -> send(auctionId, mapper, payload)));
+        } catch (TaskRejectedException e) {
+            log.warn("SSE 전송 작업이 밀려 있어 건너뜀: auctionId = {}, 구독자 = {}", auctionId, batch.size());
+        }
+    }
+
+    private void send(Long auctionId, EmitterMapper mapper, Set<DataWithMediaType> payload) {
+        if (!mapper.offer(payload)) {
+            // 큐가 가득 찬 느린 구독자 (연결은 쓰던 스레드가 끝난 뒤 닫힌다)
+            emitterRepository.deleteByIdAndUUID(auctionId, mapper.getUuid());
+            mapper.close();
+            return;
+        }
+        if (!mapper.drain()) {
+            emitterRepository.deleteByIdAndUUID(auctionId, mapper.getUuid());
+        }
+    }
+}
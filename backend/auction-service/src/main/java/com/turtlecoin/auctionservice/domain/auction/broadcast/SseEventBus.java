@@ -0,0 +1,88 @@
+package com.turtlecoin.auctionservice.domain.auction.broadcast;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// 경매 SSE 이벤트를 Redis 로 모든 auction-service 서버에 전달
+// 이벤트는 경매별 stream(sse_events_auction_{id})에 최근 replay-size 개만 남기고 pub/sub 채널로 publish 한다. (sse_publish.lua)
+// 각 서버는 받은 이벤트를 자신에게 연결된 구독자에게만 보내고, 재연결한 구독자는 Last-Event-ID 이후 이벤트를 stream 에서 다시 받는다.
+@Slf4j
+@Component
+public class SseEventBus implements MessageListener {
+    public static final String CHANNEL = "sse:auction";
+    private static final String EVENTS_KEY_PREFIX = "sse_events_auction_";
+    private static final Pattern EVENT_ID_PATTERN = Pattern.compile("\\d+-\\d+");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<String> ssePublishScript;
+    private final SseBroadcaster sseBroadcaster;
+
+    @Value("${auction.sse.replay-size:50}")
+    private int replaySize;
+
+    @Value("${auction.sse.replay-ttl-ms:600000}")
+    private long replayTtlMillis;
+
+    public SseEventBus(RedisTemplate<String, Object> redisTemplate,
+                       RedisScript<String> ssePublishScript,
+                       @Lazy SseBroadcaster sseBroadcaster) {
+        this.redisTemplate = redisTemplate;
+        this.ssePublishScript = ssePublishScript;
+        this.sseBroadcaster = sseBroadcaster;
+    }
+
+    // Redis 에 보내지 못하면 이 서버의 구독자에게라도 전달한다.
+    public void publish(Long auctionId, String data) {
+        try {
+            redisTemplate.execute(ssePublishScript, List.of(EVENTS_KEY_PREFIX + auctionId),
+                    CHANNEL, auctionId.toString(), data, String.valueOf(replaySize), String.valueOf(replayTtlMillis));
+        } catch (Exception e) {
+            log.error("SSE 이벤트 publish 실패, 이 서버에만 전달합니다: auctionId = {}", auctionId, e);
+            sseBroadcaster.deliver(auctionId, null, data);
+        }
+    }
+
+    // lastEventId 이후 이벤트 (이벤트 id -> 이벤트), 형식이 맞지 않으면 빈 값
+    public Map<String, String> replay(Long auctionId, String lastEventId) {
+        Map<String, String> events = new LinkedHashMap<>();
+        if (lastEventId == null || !EVENT_ID_PATTERN.matcher(lastEventId).matches()) {
+            return events;
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(EVENTS_KEY_PREFIX + auctionId, Range.rightUnbounded(Range.Bound.inclusive(lastEventId)));
+        if (records == null) {
+            return events;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            String eventId = record.getId().getValue();
+            if (!eventId.equals(lastEventId)) {
+                events.put(eventId, String.valueOf(record.getValue().get("data")));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+            sseBroadcaster.deliver(Long.parseLong(parts[0]), parts[1], parts[2]);
+        } catch (Exception e) {
+            log.error("SSE 이벤트 처리 실패", e);
+        }
+    }
+}
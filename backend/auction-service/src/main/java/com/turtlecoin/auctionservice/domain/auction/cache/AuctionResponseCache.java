@@ -0,0 +1,146 @@
+package com.turtlecoin.auctionservice.domain.auction.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 경매 목록/상세 응답 캐시
+// 각 응답은 만들 당시의 버전과 함께 로컬에 저장되고, 버전은 Redis 에 있어서 모든 서버가 같은 값을 본다.
+// - 상세 버전(auction_version_{id}) : 경매 시작/종료, 입찰 성공(bid.lua)
+// - 목록 버전(auction_list_version) : 경매 등록, 경매 시작/종료
+// 버전이 바뀐 응답은 그대로 돌려주면서 백그라운드에서 한 번만 다시 만든다 (stale-while-revalidate).
+// 캐시에 있으면 DB, main-service 는 조회하지 않고 Redis 버전 조회 한 번만 한다.
+// 상세 버전 키는 올릴 때마다 만료 시간(VERSION_TTL_MILLIS)을 다시 걸어서 끝난 경매의 키가 Redis 에 계속 남지 않게 한다.
+// (로컬 응답 만료보다 훨씬 길어서, 키가 만료될 즈음엔 예전 버전으로 만든 응답이 남아 있지 않다)
+@Slf4j
+@Component
+public class AuctionResponseCache {
+    public static final String AUCTION_VERSION_KEY_PREFIX = "auction_version_";
+    public static final String AUCTION_LIST_VERSION_KEY = "auction_list_version";
+    public static final long VERSION_TTL_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Cache<String, CachedResponse> responses;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public AuctionResponseCache(RedisTemplate<String, Object> redisTemplate,
+                                @Qualifier("responseCacheExecutor") ThreadPoolTaskExecutor executor,
+                                @Value("${auction.response-cache.maximum-size:5000}") long maximumSize,
+                                @Value("${auction.response-cache.expire-after-ms:300000}") long expireAfterMillis) {
+        this.redisTemplate = redisTemplate;
+        this.executor = executor;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .build();
+    }
+
+    public <T> T getDetail(Long auctionId, Supplier<T> loader) {
+        return get("detail:" + auctionId, AUCTION_VERSION_KEY_PREFIX + auctionId, loader);
+    }
+
+    public <T> T getList(String key, Supplier<T> loader) {
+        return get("list:" + key, AUCTION_LIST_VERSION_KEY, loader);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 후에 버전을 올린다 (커밋 전 데이터로 새 버전 응답이 만들어지지 않도록).
+    public void bumpDetail(Long auctionId) {
+        bumpDetails(List.of(auctionId));
+    }
+
+    public void bumpDetails(Collection<Long> auctionIds) {
+        afterCommit(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            auctionIds.forEach(auctionId -> {
+                byte[] key = (AUCTION_VERSION_KEY_PREFIX + auctionId).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().incr(key);
+                connection.keyCommands().pExpire(key, VERSION_TTL_MILLIS);
+            });
+            return null;
+        }));
+    }
+
+    public void bumpList() {
+        afterCommit(() -> redisTemplate.opsForValue().increment(AUCTION_LIST_VERSION_KEY));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, String versionKey, Supplier<T> loader) {
+        long version = currentVersion(versionKey);
+        CachedResponse cached = responses.getIfPresent(key);
+        if (cached == null) {
+            // 같은 키를 동시에 처음 조회하면 한 번만 만든다.
+            return (T) responses.get(key, k -> new CachedResponse(version, loader.get())).value();
+        }
+        if (cached.version() < version) {
+            refreshAsync(key, version, loader);
+        }
+        return (T) cached.value();
+    }
+
+    private Object load(String key, long version, Supplier<?> loader) {
+        Object value = loader.get();
+        // 다른 스레드가 더 최신 버전을 넣었으면 덮어쓰지 않음
+        responses.asMap().merge(key, new CachedResponse(version, value),
+                (previous, current) -> previous.version() > current.version() ? previous : current);
+        return value;
+    }
+
+    private void refreshAsync(String key, long version, Supplier<?> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    load(key, version, loader);
+                } catch (Exception e) {
+                    log.warn("응답 캐시 갱신 실패: key = {}", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private long currentVersion(String versionKey) {
+        Object version = redisTemplate.opsForValue().get(versionKey);
+        return version != null ? Long.parseLong(version.toString()) : 0L;
+    }
+
+    private void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+            return;
+        }
+        bump.run();
+    }
+
+    private record CachedResponse(long version, Object value) {
+    }
+}
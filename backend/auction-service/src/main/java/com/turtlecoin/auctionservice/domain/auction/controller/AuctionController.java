@@ -6,8 +6,8 @@ import com.turtlecoin.auctionservice.domain.auction.dto.RegisterAuctionDTO;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
 import com.turtlecoin.auctionservice.domain.auction.service.AuctionService;
+import com.turtlecoin.auctionservice.domain.auction.service.BidHistoryService;
 import com.turtlecoin.auctionservice.domain.auction.service.BidService;
-import com.turtlecoin.auctionservice.domain.auction.service.SchedulingService;
 import com.turtlecoin.auctionservice.domain.auction.service.SseService;
 import com.turtlecoin.auctionservice.domain.s3.service.ImageUploadService;
 import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
@@ -19,14 +19,17 @@ import jakarta.ws.rs.sse.Sse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.AmqpConnectException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartException;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -45,8 +48,8 @@ public class AuctionController {
     private final ImageUploadService imageUploadService;
     private final AuctionService auctionService;
     private final BidService bidService;
+    private final BidHistoryService bidHistoryService;
     private final AuctionRepository auctionRepository;
-    private final SchedulingService schedulingService;
     private final SseService sseService;
     private final JWTUtil jwtUtil;
 
@@ -58,7 +61,8 @@ public class AuctionController {
 
     // SSE 연결
     @GetMapping(value = "/sse/subscribe/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long id) {
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long id,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         try{
             log.info(id + "로 SSE요청이 들어왔음");
 
@@ -66,12 +70,23 @@ public class AuctionController {
             responseHeader.add("Cache-Control", "no-cache");
             responseHeader.add("X-Accel-Buffering", "no");
 
-            return new ResponseEntity<>(sseService.subscribe(id), responseHeader, HttpStatus.OK);
+            return new ResponseEntity<>(sseService.subscribe(id, lastEventId), responseHeader, HttpStatus.OK);
         }catch (Exception e) {
             return null;
         }
     }
 
+    // SSE 연결 (Flux 스트림, 같은 이벤트를 받음)
+    @GetMapping(value = "/sse/stream/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> stream(@PathVariable Long id,
+                                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        HttpHeaders responseHeader = new HttpHeaders();
+        responseHeader.add("Cache-Control", "no-cache");
+        responseHeader.add("X-Accel-Buffering", "no");
+
+        return new ResponseEntity<>(sseService.stream(id, lastEventId), responseHeader, HttpStatus.OK);
+    }
+
     // SSE 보내기 테스트
     @PostMapping(value = "/sse/{id}")
     public void sendSSE(@PathVariable Long id, @RequestBody Map<String, String> request) {
@@ -93,7 +108,9 @@ public class AuctionController {
             @RequestParam(value = "size", required = false) String size,
             @RequestParam(value = "price", required = false) String price,
             @RequestParam(value = "progress", required = false) AuctionProgress progress,
-            @RequestParam(value = "page", defaultValue = "0") int page
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "lastStartTime", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastStartTime,
+            @RequestParam(value = "lastId", required = false) Long lastId
     ) {
 
         log.info("Gender : {}, Size : {}, Price : {}", gender, size, price, progress);
@@ -126,7 +143,7 @@ public class AuctionController {
         }
         log.info("Gender : {}, minSize : {}, maxSize : {}, minPrice : {}, maxPrice: {}", gender, minSize, maxSize, minPrice, maxPrice);
         // 기존 서비스 메서드를 호출
-        return auctionService.getFilteredAuctions(gender, minSize, maxSize, minPrice, maxPrice, progress, page);
+        return auctionService.getFilteredAuctions(gender, minSize, maxSize, minPrice, maxPrice, progress, page, lastStartTime, lastId);
     }
 
 
@@ -135,6 +152,15 @@ public class AuctionController {
         return auctionService.getAuctionById(auctionId);
     }
 
+    // 입찰 기록 조회 (최신순)
+    @GetMapping("/{auctionId}/bids")
+    public ResponseEntity<?> getBidHistory(
+            @PathVariable Long auctionId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return bidHistoryService.getBidHistory(auctionId, page, size);
+    }
+
     @GetMapping("/{auctionId}/test")
     public void test(@PathVariable Long auctionId) {
         bidService.startAuction(auctionId);
@@ -0,0 +1,77 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 진행 중인 경매의 절대 마감 시각(Redis 시각 기준 epoch ms)을 관리
+// 마감 시각은 Redis hash(auction_end_times)가 원본이고, 입찰 스크립트/경매 시작/sweep 에서 로컬 캐시를 갱신한다.
+// 클라이언트에는 endTime 과 serverTime 을 함께 보내서 각자 카운트다운하도록 하므로 조회 때마다 PTTL 을 호출하지 않는다.
+@Slf4j
+@Component
+public class AuctionClock {
+    public static final String AUCTION_END_TIMES_KEY = "auction_end_times";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<Long, Long> endTimes = new ConcurrentHashMap<>();
+    // Redis 시각 - 로컬 시각
+    private volatile long offsetMillis = 0;
+
+    public AuctionClock(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // Redis 시각 기준 현재 시각
+    public long now() {
+        return System.currentTimeMillis() + offsetMillis;
+    }
+
+    public void syncOffset(long redisNow) {
+        this.offsetMillis = redisNow - System.currentTimeMillis();
+    }
+
+    // 마감 시각은 연장만 되므로 더 늦은 값만 반영
+    public void updateEndTime(Long auctionId, long endTime) {
+        endTimes.merge(auctionId, endTime, Math::max);
+    }
+
+    // sweep 에서 읽은 전체 마감 시각으로 로컬 캐시 갱신 (종료된 경매는 제거)
+    public void refresh(Map<Long, Long> latest) {
+        endTimes.keySet().retainAll(latest.keySet());
+        latest.forEach(this::updateEndTime);
+    }
+
+    public void remove(Long auctionId) {
+        endTimes.remove(auctionId);
+    }
+
+    // 진행 중이 아니면 null
+    public Long getEndTime(Long auctionId) {
+        Long endTime = endTimes.get(auctionId);
+        if (endTime != null) {
+            return endTime;
+        }
+
+        // 다른 서버에서 시작된 경매가 아직 sweep 되지 않은 경우
+        Object value = redisTemplate.opsForHash().get(AUCTION_END_TIMES_KEY, auctionId.toString());
+        if (value == null) {
+            return null;
+        }
+        endTime = Long.parseLong(value.toString());
+        updateEndTime(auctionId, endTime);
+        return endTime;
+    }
+
+    // 남은 시간(ms), 진행 중이 아니거나 마감됐으면 null
+    public Long getRemainingTime(Long auctionId) {
+        Long endTime = getEndTime(auctionId);
+        if (endTime == null) {
+            return null;
+        }
+        long remainingTime = endTime - now();
+        return remainingTime > 0 ? remainingTime : null;
+    }
+}
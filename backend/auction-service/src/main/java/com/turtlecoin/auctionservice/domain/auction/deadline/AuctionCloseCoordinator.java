@@ -0,0 +1,64 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+// 여러 auction-service 서버 중 하나만 경매를 종료 처리하도록 조정
+// 먼저 lease(auction_close_{id})를 잡은 서버가 종료 처리하고, 처리 도중 죽으면 lease 만료 후 다른 서버가 이어받는다.
+// 최종 상태 변경은 DB 에서 DURING_AUCTION 일 때만 반영되므로 lease 가 겹쳐도 한 번만 종료된다.
+@Slf4j
+@Component
+public class AuctionCloseCoordinator {
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    private static final String AUCTION_CLOSE_KEY_PREFIX = "auction_close_";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisScript<Long> closeClaimScript;
+    private final RedisScript<Long> closeCompleteScript;
+    private final RedisScript<Long> closeReleaseScript;
+    private final String ownerId;
+
+    @Value("${auction.close.lease-ms:30000}")
+    private long leaseMillis;
+
+    public AuctionCloseCoordinator(RedisTemplate<String, Object> redisTemplate,
+                                   @Qualifier("closeClaimScript") RedisScript<Long> closeClaimScript,
+                                   @Qualifier("closeCompleteScript") RedisScript<Long> closeCompleteScript,
+                                   @Qualifier("closeReleaseScript") RedisScript<Long> closeReleaseScript,
+                                   @Value("${eureka.instance.instance-id:auction-service}") String instanceId) {
+        this.redisTemplate = redisTemplate;
+        this.closeClaimScript = closeClaimScript;
+        this.closeCompleteScript = closeCompleteScript;
+        this.closeReleaseScript = closeReleaseScript;
+        // 같은 서버가 재시작한 경우도 구분하기 위해 UUID 를 붙임
+        this.ownerId = instanceId + ":" + UUID.randomUUID();
+    }
+
+    // 종료 처리 권한을 얻으면 true
+    public boolean tryClaim(Long auctionId) {
+        Long claimed = redisTemplate.execute(closeClaimScript,
+                List.of(AUCTION_DEADLINES_KEY, AUCTION_END_KEY_PREFIX + auctionId, AUCTION_CLOSE_KEY_PREFIX + auctionId),
+                ownerId, String.valueOf(leaseMillis), auctionId.toString());
+        return claimed != null && claimed == 1L;
+    }
+
+    public void complete(Long auctionId) {
+        redisTemplate.execute(closeCompleteScript,
+                List.of(AUCTION_DEADLINES_KEY, AUCTION_CLOSE_KEY_PREFIX + auctionId, AuctionClock.AUCTION_END_TIMES_KEY),
+                ownerId, auctionId.toString());
+    }
+
+    // 종료 처리 실패 시 lease 반납. 마감 시각은 lease 만큼 미뤄져 있으므로 이후 sweep 에서 다시 시도된다.
+    public void release(Long auctionId) {
+        redisTemplate.execute(closeReleaseScript, List.of(AUCTION_CLOSE_KEY_PREFIX + auctionId), ownerId);
+        log.warn("경매 종료 lease 반납: auctionId = {}", auctionId);
+    }
+}
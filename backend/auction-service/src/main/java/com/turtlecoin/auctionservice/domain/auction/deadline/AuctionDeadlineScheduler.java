@@ -0,0 +1,253 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
+import com.turtlecoin.auctionservice.domain.auction.sequencer.BidSequencer;
+import com.turtlecoin.auctionservice.domain.auction.service.SendService;
+import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 경매 마감 스케줄러
+// 마감 시각은 Redis sorted set(auction_deadlines)에 저장하고, 임박한 마감은 로컬 타이밍 휠에 올려서 tick 단위로 종료시킨다.
+// keyspace 만료 알림에 의존하지 않으므로 알림 유실이나 서버 재시작으로 놓친 마감도 sweep 에서 다시 잡힌다.
+// 여러 서버가 같은 마감을 잡아도 AuctionCloseCoordinator 의 lease 를 얻은 서버만 종료 처리한다.
+@Slf4j
+@Component
+public class AuctionDeadlineScheduler {
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    private static final long TICK_MS = 10;
+    private static final int WHEEL_SIZE = 64;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SendService sendService;
+    private final AuctionCloseCoordinator closeCoordinator;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolTaskExecutor closeExecutor;
+    private final AuctionClock auctionClock;
+    private final LiveAuctionRegistry liveAuctionRegistry;
+    private final BidSequencer bidSequencer;
+
+    private final DelayQueue<TimerBucket> delayQueue = new DelayQueue<>();
+    private final TimingWheel timingWheel = new TimingWheel(TICK_MS, WHEEL_SIZE, System.currentTimeMillis(), delayQueue);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, DeadlineEntry> entries = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    @Value("${auction.deadline.sweep-interval-ms:1000}")
+    private long sweepIntervalMillis;
+
+    public AuctionDeadlineScheduler(RedisTemplate<String, Object> redisTemplate,
+                                    SendService sendService,
+                                    AuctionCloseCoordinator closeCoordinator,
+                                    SimpMessagingTemplate messagingTemplate,
+                                    @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                    @Qualifier("auctionCloseExecutor") ThreadPoolTaskExecutor closeExecutor,
+                                    AuctionClock auctionClock,
+                                    LiveAuctionRegistry liveAuctionRegistry,
+                                    BidSequencer bidSequencer) {
+        this.redisTemplate = redisTemplate;
+        this.sendService = sendService;
+        this.closeCoordinator = closeCoordinator;
+        this.messagingTemplate = messagingTemplate;
+        this.taskScheduler = taskScheduler;
+        this.closeExecutor = closeExecutor;
+        this.auctionClock = auctionClock;
+        this.liveAuctionRegistry = liveAuctionRegistry;
+        this.bidSequencer = bidSequencer;
+    }
+
+    // 타이밍 휠 구동, 놓친 마감은 주기적인 sweep 에서 복구된다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread ticker = new Thread(this::runTicker, "auction-deadline-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+        taskScheduler.scheduleAtFixedRate(this::sweep, Duration.ofMillis(sweepIntervalMillis));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    // 같은 시각에 시작하는 경매들의 마감 시각을 한 번에 등록
+    // 마감 키(auction_end_{id}) TTL, sorted set, 마감 시각 해시를 한 번의 파이프라인으로 쓴다.
+    public void registerAll(Collection<Long> auctionIds, long remainingMillis) {
+        long redisNow = currentRedisTime();
+        long endTime = redisNow + remainingMillis;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Long auctionId : auctionIds) {
+                    ops.opsForValue().set(AUCTION_END_KEY_PREFIX + auctionId, "ready", remainingMillis, TimeUnit.MILLISECONDS);
+                    ops.opsForZSet().add(AUCTION_DEADLINES_KEY, auctionId.toString(), endTime);
+                    ops.opsForHash().put(AuctionClock.AUCTION_END_TIMES_KEY, auctionId.toString(), String.valueOf(endTime));
+                }
+                return null;
+            }
+        });
+        auctionClock.syncOffset(redisNow);
+        for (Long auctionId : auctionIds) {
+            auctionClock.updateEndTime(auctionId, endTime);
+            schedule(auctionId, remainingMillis);
+        }
+    }
+
+    // 로컬 타이밍 휠에 마감 예약 (이전 예약은 취소)
+    // sorted set 의 마감 시각은 입찰 스크립트에서 함께 갱신된다.
+    public void schedule(Long auctionId, long remainingMillis) {
+        DeadlineEntry entry = new DeadlineEntry(auctionId, System.currentTimeMillis() + remainingMillis);
+        DeadlineEntry previous = entries.put(auctionId, entry);
+        if (previous != null) {
+            previous.cancel();
+        }
+        addOrFire(entry);
+    }
+
+    private void addOrFire(DeadlineEntry entry) {
+        if (entry.isCancelled()) {
+            return;
+        }
+        boolean added;
+        lock.readLock().lock();
+        try {
+            added = timingWheel.add(entry);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!added) {
+            fire(entry);
+        }
+    }
+
+    private void fire(DeadlineEntry entry) {
+        if (entries.remove(entry.getAuctionId(), entry)) {
+            closeExecutor.execute(() -> close(entry));
+        }
+    }
+
+    private void runTicker() {
+        while (running) {
+            try {
+                TimerBucket bucket = delayQueue.poll(200, TimeUnit.MILLISECONDS);
+                if (bucket == null) {
+                    continue;
+                }
+                lock.writeLock().lock();
+                try {
+                    while (bucket != null) {
+                        timingWheel.advanceClock(bucket.getExpiration());
+                        bucket.flush(this::addOrFire);
+                        bucket = delayQueue.poll();
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("경매 마감 타이머 처리 중 오류 발생", e);
+            }
+        }
+    }
+
+    // 곧 마감될 경매를 sorted set 에서 읽어 로컬 휠에 올림
+    // 다른 서버에서 시작된 경매, 재시작 중 놓친 마감도 여기서 잡힌다.
+    // 다른 서버의 입찰로 연장된 마감 시각도 이때 로컬 캐시에 반영된다.
+    private void sweep() {
+        try {
+            long redisNow = currentRedisTime();
+            auctionClock.syncOffset(redisNow);
+            Set<Long> liveAuctionIds = refreshEndTimes().keySet();
+            liveAuctionRegistry.evictClosed(liveAuctionIds);
+            bidSequencer.evictClosed(liveAuctionIds);
+            Set<ZSetOperations.TypedTuple<Object>> dueSoon = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(AUCTION_DEADLINES_KEY, 0, redisNow + 2 * sweepIntervalMillis);
+            if (dueSoon == null) {
+                return;
+            }
+            for (ZSetOperations.TypedTuple<Object> tuple : dueSoon) {
+                Long auctionId = Long.parseLong(String.valueOf(tuple.getValue()));
+                if (!entries.containsKey(auctionId)) {
+                    schedule(auctionId, tuple.getScore().longValue() - redisNow);
+                }
+            }
+        } catch (Exception e) {
+            log.error("경매 마감 sweep 중 오류 발생", e);
+        }
+    }
+
+    private Map<Long, Long> refreshEndTimes() {
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(AuctionClock.AUCTION_END_TIMES_KEY);
+        Map<Long, Long> endTimes = new HashMap<>();
+        stored.forEach((auctionId, endTime) ->
+                endTimes.put(Long.parseLong(auctionId.toString()), Long.parseLong(endTime.toString())));
+        auctionClock.refresh(endTimes);
+        return endTimes;
+    }
+
+    private void close(DeadlineEntry entry) {
+        Long auctionId = entry.getAuctionId();
+        try {
+            // 다른 서버에서 입찰로 마감이 연장됐으면 다시 예약
+            Long remainingTime = redisTemplate.getExpire(AUCTION_END_KEY_PREFIX + auctionId, TimeUnit.MILLISECONDS);
+            if (remainingTime != null && remainingTime > 0) {
+                schedule(auctionId, remainingTime);
+                return;
+            }
+
+            // lease 를 잡은 서버만 종료 처리
+            if (!closeCoordinator.tryClaim(auctionId)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.error("경매 종료 lease 획득 중 오류 발생: auctionId = {}", auctionId, e);
+            return;
+        }
+
+        try {
+            log.info("경매 마감 처리: auctionId = {}, 지연 = {}ms", auctionId, System.currentTimeMillis() - entry.getDeadlineMs());
+            sendService.endAuction(auctionId);
+            closeCoordinator.complete(auctionId);
+        } catch (Exception e) {
+            closeCoordinator.release(auctionId);
+            ResponseVO<Object> response = ResponseVO.failure("50000", "예상치 못한 문제가 발생했습니다.");
+            messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
+
+            log.error("경매 종료 처리 중 오류 발생: auctionId = {}, error = {}", auctionId, e.getMessage());
+        }
+    }
+
+    private long currentRedisTime() {
+        Long time = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        return time != null ? time : System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,18 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 타이밍 휠에 등록되는 경매 마감 예약
+@Getter
+@RequiredArgsConstructor
+public class DeadlineEntry {
+    private final Long auctionId;
+    // 로컬 시각 기준 마감 시각 (epoch ms)
+    private final long deadlineMs;
+    private volatile boolean cancelled = false;
+
+    public void cancel() {
+        this.cancelled = true;
+    }
+}
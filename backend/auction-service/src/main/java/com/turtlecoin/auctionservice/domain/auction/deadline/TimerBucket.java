@@ -0,0 +1,48 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 타이밍 휠의 한 칸. 같은 tick 에 만료되는 예약을 모아두고 DelayQueue 로 만료 시점을 기다린다.
+public class TimerBucket implements Delayed {
+    private final AtomicLong expiration = new AtomicLong(-1L);
+    private final List<DeadlineEntry> entries = new ArrayList<>();
+
+    public synchronized void add(DeadlineEntry entry) {
+        entries.add(entry);
+    }
+
+    // 만료 시각이 바뀌었으면 true (DelayQueue 에 다시 넣어야 함)
+    public boolean setExpiration(long expirationMs) {
+        return expiration.getAndSet(expirationMs) != expirationMs;
+    }
+
+    public long getExpiration() {
+        return expiration.get();
+    }
+
+    // 버킷을 비우고 예약들을 다시 휠에 넣거나 실행
+    public void flush(Consumer<DeadlineEntry> reinsert) {
+        List<DeadlineEntry> flushed;
+        synchronized (this) {
+            flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration.set(-1L);
+        }
+        flushed.forEach(reinsert);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(Math.max(getExpiration() - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        return Long.compare(getExpiration(), ((TimerBucket) other).getExpiration());
+    }
+}
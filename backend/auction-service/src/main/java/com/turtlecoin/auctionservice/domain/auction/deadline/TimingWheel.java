@@ -0,0 +1,66 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import java.util.concurrent.DelayQueue;
+
+// 계층형 타이밍 휠
+// 한 단계가 담을 수 없는 먼 마감 시각은 tick 이 더 큰 상위 휠(overflow)에 넣고,
+// 상위 휠의 버킷이 만료되면 하위 휠로 다시 내려온다. 등록/취소는 O(1) 이다.
+public class TimingWheel {
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final TimerBucket[] buckets;
+    private final DelayQueue<TimerBucket> queue;
+    private long currentTime;
+    private volatile TimingWheel overflowWheel;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs, DelayQueue<TimerBucket> queue) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.queue = queue;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new TimerBucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new TimerBucket();
+        }
+    }
+
+    // 이미 마감 시각이 지났으면 false 반환 (호출한 쪽에서 바로 실행)
+    public boolean add(DeadlineEntry entry) {
+        long expiration = entry.getDeadlineMs();
+        if (expiration < currentTime + tickMs) {
+            return false;
+        }
+        if (expiration < currentTime + interval) {
+            long virtualId = expiration / tickMs;
+            TimerBucket bucket = buckets[(int) (virtualId % wheelSize)];
+            bucket.add(entry);
+            if (bucket.setExpiration(virtualId * tickMs)) {
+                queue.offer(bucket);
+            }
+            return true;
+        }
+        return getOverflowWheel().add(entry);
+    }
+
+    public void advanceClock(long timeMs) {
+        if (timeMs >= currentTime + tickMs) {
+            currentTime = timeMs - (timeMs % tickMs);
+            if (overflowWheel != null) {
+                overflowWheel.advanceClock(currentTime);
+            }
+        }
+    }
+
+    private TimingWheel getOverflowWheel() {
+        if (overflowWheel == null) {
+            synchronized (this) {
+                if (overflowWheel == null) {
+                    overflowWheel = new TimingWheel(interval, wheelSize, currentTime, queue);
+                }
+            }
+        }
+        return overflowWheel;
+    }
+}
@@ -16,7 +16,7 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 @Slf4j
 public class AuctionResponseDTO {
     private Long id;
@@ -33,6 +33,8 @@ public class AuctionResponseDTO {
     private String content;
     private String progress;
     private Long remainingTime;
+    private Long endTimestamp; // 진행 중인 경매의 마감 시각 (epoch ms)
+    private Long serverTime; // 응답 생성 시 서버 시각 (epoch ms)
     private String scientificName;
     private List<String> tags;
     private String nickname;
@@ -43,7 +45,7 @@ public class AuctionResponseDTO {
     private TurtleFilteredResponseDTO turtleInfo;
     private UserResponseDTO userInfo;
 
-    public static AuctionResponseDTO from(Auction auction, TurtleFilteredResponseDTO turtleInfo, UserResponseDTO userInfo, Long remainingTime, Double nowBid, String nickname) {
+    public static AuctionResponseDTO from(Auction auction, TurtleFilteredResponseDTO turtleInfo, UserResponseDTO userInfo, Long remainingTime, Double nowBid, String nickname, Long endTimestamp, Long serverTime) {
         log.info("Auction Tags: {}", auction.getAuctionTags());
         return AuctionResponseDTO.builder()
                 .id(auction.getId())
@@ -60,13 +62,15 @@ public class AuctionResponseDTO {
                 .content(auction.getContent())
                 .sellerAddress(auction.getSellerAddress())
                 .remainingTime(remainingTime)
+                .endTimestamp(endTimestamp)
+                .serverTime(serverTime)
                 .scientificName("다이아몬드 백 테라핀")
                 .progress(auction.getAuctionProgress().toString())
                 .tags(auction.getAuctionTags().stream()
                         .map(AuctionTag::getTag)
                         .collect(Collectors.toList())) // 태그 리스트
-                .images(auction.getAuctionPhotos().stream()  // 이미지 주소만 추출
-                        .map(AuctionPhoto::getImageAddress)
+                .images(auction.getAuctionPhotos().stream()  // 상세 화면용 중간 크기 이미지 주소 (없으면 원본)
+                        .map(AuctionPhoto::getMediumUrl)
                         .toList())
                 .turtleInfo(turtleInfo) // Turtle 정보 추가
                 .userInfo(userInfo)
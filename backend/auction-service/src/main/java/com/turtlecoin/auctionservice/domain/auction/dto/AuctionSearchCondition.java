@@ -0,0 +1,25 @@
+package com.turtlecoin.auctionservice.domain.auction.dto;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
+import lombok.*;
+
+// 경매 목록 조회 조건
+// 거북이 조건(gender, size)은 로컬 거북이 복사본(turtle_projection)과 조인해서 반영된다.
+@Getter
+@Builder
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class AuctionSearchCondition {
+    private Gender gender;
+    private Double minSize;
+    private Double maxSize;
+    private Double minPrice;
+    private Double maxPrice;
+    private AuctionProgress progress;
+
+    public boolean hasTurtleFilter() {
+        return gender != null || minSize != null || maxSize != null;
+    }
+}
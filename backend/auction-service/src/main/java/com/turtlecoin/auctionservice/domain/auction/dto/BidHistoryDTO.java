@@ -0,0 +1,42 @@
+package com.turtlecoin.auctionservice.domain.auction.dto;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.BidHistory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BidHistoryDTO {
+    private Long auctionId;
+    private Long seq;
+    private Long userId;
+    private Double bidAmount;
+    private Long bidTime;
+
+    public static BidHistoryDTO from(BidHistory bidHistory) {
+        return BidHistoryDTO.builder()
+                .auctionId(bidHistory.getAuctionId())
+                .seq(bidHistory.getSeq())
+                .userId(bidHistory.getUserId())
+                .bidAmount(bidHistory.getBidAmount())
+                .bidTime(bidHistory.getBidTime())
+                .build();
+    }
+
+    // Redis stream 레코드의 필드를 변환
+    public static BidHistoryDTO from(Long auctionId, Map<?, ?> fields) {
+        return BidHistoryDTO.builder()
+                .auctionId(auctionId)
+                .seq(Long.parseLong(fields.get("seq").toString()))
+                .userId(Long.parseLong(fields.get("userId").toString()))
+                .bidAmount(Double.parseDouble(fields.get("bidAmount").toString()))
+                .bidTime(Long.parseLong(fields.get("bidTime").toString()))
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.turtlecoin.auctionservice.domain.auction.dto;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.BidStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BidResultDTO {
+    private BidStatus status;
+    private Double currentBid;
+    private Long remainingTime;
+    private Long seq;
+    // Redis 시각 기준 마감 시각 (epoch ms), 입찰이 거절되면 0
+    private Long endTime;
+
+    // bid.lua 스크립트의 반환값 { 결과 코드, 현재 입찰가, 남은 시간, 입찰 순번, 마감 시각 } 을 변환
+    public static BidResultDTO from(List<?> scriptResult) {
+        return BidResultDTO.builder()
+                .status(BidStatus.valueOf(scriptResult.get(0).toString()))
+                .currentBid(Double.parseDouble(scriptResult.get(1).toString()))
+                .remainingTime(Long.parseLong(scriptResult.get(2).toString()))
+                .seq(Long.parseLong(scriptResult.get(3).toString()))
+                .endTime(Long.parseLong(scriptResult.get(4).toString()))
+                .build();
+    }
+
+    public boolean isAccepted() {
+        return status == BidStatus.ACCEPTED;
+    }
+}
@@ -1,5 +1,6 @@
 package com.turtlecoin.auctionservice.domain.auction.dto;
 
+import com.querydsl.core.annotations.QueryProjection;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,4 +35,33 @@ public class DetailAuctionResponseDTO {
     private List<String> auctionTag;  // 태그 목록
     private List<String> auctionImage;  // 이미지 경로 목록
     private String progress;  // 진행 상황 (Enum 값)
+    private LocalDateTime startTime;
+
+    // 경매 목록 조회용 projection (학명은 거북이 복사본에서, 복사본이 없으면 null)
+    @QueryProjection
+    public DetailAuctionResponseDTO(Long auctionId, Long sellerId, Long turtleId, String scientificName, String title, Double price, int weight,
+                                    String content, String sellerAddress, Long buyerId, AuctionProgress progress, LocalDateTime startTime) {
+        this.auctionId = auctionId;
+        this.sellerId = sellerId;
+        this.turtleId = turtleId;
+        this.scientificName = scientificName;
+        this.title = title;
+        this.price = price;
+        this.weight = weight;
+        this.content = content;
+        this.sellerAddress = sellerAddress;
+        this.buyerId = buyerId;
+        this.progress = progress.toString();
+        this.startTime = startTime;
+    }
+
+    public void updateSeller(String sellerName, String sellerImageUrl) {
+        this.sellerName = sellerName;
+        this.sellerImageUrl = sellerImageUrl;
+    }
+
+    public void updateTagsAndImages(List<String> auctionTag, List<String> auctionImage) {
+        this.auctionTag = auctionTag;
+        this.auctionImage = auctionImage;
+    }
 }
@@ -16,7 +16,7 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "auction")
+@Table(name = "auction", indexes = @Index(name = "idx_auction_start_time_id", columnList = "start_time, id"))
 public class Auction extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(unique=true, nullable=false)
@@ -18,6 +18,10 @@ public class AuctionPhoto extends BaseEntity {
     @Column(nullable = false)
     private String imageAddress;
 
+    // 목록용 썸네일, 상세용 중간 크기 이미지 (업로드 후 백그라운드에서 생성)
+    private String thumbnailAddress;
+    private String mediumAddress;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "auction_id", nullable = false)
     @JsonBackReference
@@ -26,4 +30,13 @@ public class AuctionPhoto extends BaseEntity {
     public String getImageUrl() {
         return this.imageAddress;
     }
+
+    // 변환 이미지가 아직 없으면 원본
+    public String getThumbnailUrl() {
+        return thumbnailAddress != null ? thumbnailAddress : imageAddress;
+    }
+
+    public String getMediumUrl() {
+        return mediumAddress != null ? mediumAddress : imageAddress;
+    }
 }
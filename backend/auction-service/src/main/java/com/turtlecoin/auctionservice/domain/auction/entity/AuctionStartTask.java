@@ -0,0 +1,48 @@
+package com.turtlecoin.auctionservice.domain.auction.entity;
+
+import com.turtlecoin.auctionservice.domain.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 경매 시작 예약
+// 시작 처리 중인 서버는 owner, leaseUntil 로 표시하고, lease 가 만료되면 다른 서버가 다시 가져갈 수 있다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "auction_start_task",
+        uniqueConstraints = @UniqueConstraint(name = "uk_auction_start_task_auction", columnNames = "auction_id"),
+        indexes = @Index(name = "idx_auction_start_task_status_execute_at", columnList = "status, execute_at"))
+public class AuctionStartTask extends BaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(name = "execute_at", nullable = false)
+    private LocalDateTime executeAt;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AuctionStartTaskStatus status;
+
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public static AuctionStartTask of(Long auctionId, LocalDateTime executeAt) {
+        return AuctionStartTask.builder()
+                .auctionId(auctionId)
+                .executeAt(executeAt)
+                .status(AuctionStartTaskStatus.PENDING)
+                .attempts(0)
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.turtlecoin.auctionservice.domain.auction.entity;
+
+public enum AuctionStartTaskStatus {
+    PENDING, DONE, FAILED
+}
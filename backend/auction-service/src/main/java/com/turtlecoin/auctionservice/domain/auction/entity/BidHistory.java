@@ -0,0 +1,33 @@
+package com.turtlecoin.auctionservice.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "bid_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bid_history_auction_seq", columnNames = {"auction_id", "seq"}))
+public class BidHistory {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    // 경매별 입찰 순번
+    @Column(nullable = false)
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Double bidAmount;
+
+    // 입찰 시각 (epoch ms)
+    @Column(nullable = false)
+    private Long bidTime;
+}
@@ -0,0 +1,6 @@
+package com.turtlecoin.auctionservice.domain.auction.entity;
+
+public enum BidStatus {
+    // 입찰 성공, 자신의 경매, 재입찰, 낮은 금액, 입찰 시간 아님
+    ACCEPTED, OWN_AUCTION, SAME_USER, TOO_LOW, EXPIRED
+}
@@ -0,0 +1,50 @@
+package com.turtlecoin.auctionservice.domain.auction.live;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
+import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 진행 중(또는 곧 시작할) 경매의 변하지 않는 정보
+// 입장, 입찰 처리 때 DB 를 다시 읽지 않도록 LiveAuctionRegistry 에 보관한다.
+// 판매자, 거북이 정보는 입장 화면에만 필요하므로 main-service 조회에 실패하면 비어 있을 수 있다.
+@Getter
+@Builder(toBuilder = true)
+public class LiveAuction {
+    private final Long auctionId;
+    private final Long sellerId;
+    private final String title;
+    private final Double minBid;
+    private final LocalDateTime startTime;
+    private final Long turtleId;
+    private final UserResponseDTO seller;
+    private final TurtleFilteredResponseDTO turtle;
+
+    public static LiveAuction of(Auction auction, UserResponseDTO seller, TurtleFilteredResponseDTO turtle) {
+        return LiveAuction.builder()
+                .auctionId(auction.getId())
+                .sellerId(auction.getUserId())
+                .title(auction.getTitle())
+                .minBid(auction.getMinBid())
+                .startTime(auction.getStartTime())
+                .turtleId(auction.getTurtleId())
+                .seller(seller)
+                .turtle(turtle)
+                .build();
+    }
+
+    public boolean hasProfile() {
+        return seller != null && turtle != null;
+    }
+
+    public LiveAuction withProfile(UserResponseDTO seller, TurtleFilteredResponseDTO turtle) {
+        return toBuilder().seller(seller).turtle(turtle).build();
+    }
+
+    public String getSellerNickname() {
+        return seller != null ? seller.getNickname() : null;
+    }
+}
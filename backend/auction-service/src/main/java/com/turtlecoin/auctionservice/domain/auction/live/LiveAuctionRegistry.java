@@ -0,0 +1,125 @@
+package com.turtlecoin.auctionservice.domain.auction.live;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
+import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
+import com.turtlecoin.auctionservice.feign.service.TurtleInfoService;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 진행 중인 경매 정보를 서버 메모리에 보관
+// 경매 시작 몇 초 전에 AuctionStartScheduler 가 경매, 판매자, 거북이 정보를 한 번에 올려두므로
+// 시작 직후 몰리는 입장(/pub/auction/{id}/init)과 첫 입찰이 DB 나 main-service 를 거치지 않는다.
+// 입찰은 경매 정보만 쓰므로 main-service 가 느리거나 멈춰도 영향을 받지 않는다.
+// 경매가 끝나면 종료 처리한 서버는 바로, 나머지 서버는 마감 sweep 에서 제거한다.
+@Slf4j
+@Component
+public class LiveAuctionRegistry {
+    // 시작 시각이 이만큼 지났는데 진행 중이 아니면 종료된 경매로 본다.
+    private static final Duration START_GRACE = Duration.ofMinutes(1);
+
+    private final AuctionRepository auctionRepository;
+    private final UserService userService;
+    private final TurtleInfoService turtleInfoService;
+    private final Cache<Long, LiveAuction> liveAuctions;
+
+    public LiveAuctionRegistry(AuctionRepository auctionRepository,
+                               UserService userService,
+                               TurtleInfoService turtleInfoService,
+                               @Value("${auction.live.maximum-size:10000}") long maximumSize,
+                               @Value("${auction.live.expire-after-access-ms:600000}") long expireAfterAccessMillis) {
+        this.auctionRepository = auctionRepository;
+        this.userService = userService;
+        this.turtleInfoService = turtleInfoService;
+        this.liveAuctions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMillis(expireAfterAccessMillis))
+                .build();
+    }
+
+    // 곧 시작할 경매를 한 번에 올림 (이미 올라간 경매는 건너뜀)
+    public void prewarm(Collection<Long> auctionIds) {
+        List<Long> missing = auctionIds.stream()
+                .distinct()
+                .filter(auctionId -> liveAuctions.getIfPresent(auctionId) == null)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        List<Auction> auctions = auctionRepository.findAllById(missing);
+        Map<Long, UserResponseDTO> sellers = fetchSellers(auctions.stream().map(Auction::getUserId).toList());
+        Map<Long, TurtleFilteredResponseDTO> turtles = fetchTurtles(auctions.stream().map(Auction::getTurtleId).toList());
+        auctions.forEach(auction -> liveAuctions.put(auction.getId(),
+                LiveAuction.of(auction, sellers.get(auction.getUserId()), turtles.get(auction.getTurtleId()))));
+        log.info("경매 정보 미리 적재: 요청 = {}, 적재 = {}", missing.size(), auctions.size());
+    }
+
+    // 입찰 처리용, 미리 올라가지 않은 경매(다른 서버가 늦게 뜬 경우 등)는 DB 에서 읽어서 올림
+    // 입찰에는 경매 정보만 필요하므로 main-service 는 조회하지 않는다.
+    public Optional<LiveAuction> get(Long auctionId) {
+        return Optional.ofNullable(liveAuctions.get(auctionId, id -> auctionRepository.findById(id)
+                .map(auction -> LiveAuction.of(auction, null, null))
+                .orElse(null)));
+    }
+
+    // 입장 화면용, 판매자나 거북이 정보가 비어 있으면 그때 main-service 에서 채운다.
+    // 조회에 실패하면 빈 채로 돌려주고 다음 입장 때 다시 조회한다.
+    public Optional<LiveAuction> getWithProfile(Long auctionId) {
+        return get(auctionId).map(auction -> {
+            if (auction.hasProfile()) {
+                return auction;
+            }
+            UserResponseDTO seller = auction.getSeller() != null ? auction.getSeller()
+                    : fetchSellers(List.of(auction.getSellerId())).get(auction.getSellerId());
+            TurtleFilteredResponseDTO turtle = auction.getTurtle() != null ? auction.getTurtle()
+                    : fetchTurtles(List.of(auction.getTurtleId())).get(auction.getTurtleId());
+            LiveAuction resolved = auction.withProfile(seller, turtle);
+            // 그 사이 제거(종료)된 경매는 다시 올리지 않는다.
+            liveAuctions.asMap().replace(auctionId, auction, resolved);
+            return resolved;
+        });
+    }
+
+    public void evict(Long auctionId) {
+        liveAuctions.invalidate(auctionId);
+    }
+
+    // 마감 sweep 에서 호출, 시작 시각이 지났는데 진행 중 목록에 없는 경매 제거
+    public void evictClosed(Set<Long> liveAuctionIds) {
+        LocalDateTime threshold = LocalDateTime.now().minus(START_GRACE);
+        liveAuctions.asMap().values().removeIf(auction ->
+                auction.getStartTime().isBefore(threshold) && !liveAuctionIds.contains(auction.getAuctionId()));
+    }
+
+    // 판매자, 거북이 정보는 main-service 에 한 번씩만 요청하고, 실패하면 빈 결과로 둔다.
+    private Map<Long, UserResponseDTO> fetchSellers(List<Long> userIds) {
+        try {
+            return userService.getUsersByIds(userIds);
+        } catch (Exception e) {
+            log.warn("판매자 정보 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Map<Long, TurtleFilteredResponseDTO> fetchTurtles(List<Long> turtleIds) {
+        try {
+            return turtleInfoService.getTurtlesByIds(turtleIds);
+        } catch (Exception e) {
+            log.warn("거북이 정보 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionPhoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface AuctionPhotoRepository extends JpaRepository<AuctionPhoto, Long> {
+    @Transactional
+    @Modifying
+    @Query("update AuctionPhoto p set p.thumbnailAddress = :thumbnailAddress, p.mediumAddress = :mediumAddress where p.imageAddress = :imageAddress")
+    int updateVariants(@Param("imageAddress") String imageAddress,
+                       @Param("thumbnailAddress") String thumbnailAddress,
+                       @Param("mediumAddress") String mediumAddress);
+}
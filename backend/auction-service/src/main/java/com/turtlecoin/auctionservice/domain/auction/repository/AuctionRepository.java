@@ -4,14 +4,16 @@ import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface AuctionRepository extends JpaRepository<Auction, Long> {
+public interface AuctionRepository extends JpaRepository<Auction, Long>, AuctionRepositoryCustom {
     Boolean existsByTurtleId(Long turtleId);
 
     @Query("select a from Auction a where a.auctionProgress = :progress")
@@ -22,4 +24,17 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
 
     @Query("SELECT t FROM Auction t WHERE t.buyerId = :id OR t.userId = :id")
     List<Auction> findAllByUser(Long id);
+
+    // 현재 상태가 expected 일 때만 상태 변경 (변경된 행 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("update Auction a set a.auctionProgress = :progress where a.id = :id and a.auctionProgress = :expected")
+    int updateProgressIfMatches(@Param("id") Long id, @Param("expected") AuctionProgress expected, @Param("progress") AuctionProgress progress);
+
+    @Query("select a.id from Auction a where a.id in :ids and a.auctionProgress = :progress")
+    List<Long> findIdsByProgress(@Param("ids") Collection<Long> ids, @Param("progress") AuctionProgress progress);
+
+    // 여러 경매의 상태를 한 번에 변경
+    @Modifying(clearAutomatically = true)
+    @Query("update Auction a set a.auctionProgress = :progress where a.id in :ids and a.auctionProgress = :expected")
+    int updateProgressIfMatches(@Param("ids") Collection<Long> ids, @Param("expected") AuctionProgress expected, @Param("progress") AuctionProgress progress);
 }
@@ -1,9 +1,25 @@
 package com.turtlecoin.auctionservice.domain.auction.repository;
 
-import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.dto.AuctionSearchCondition;
+import com.turtlecoin.auctionservice.domain.auction.dto.DetailAuctionResponseDTO;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface AuctionRepositoryCustom {
-    List<Auction> findAuctionsByFilters(String gender, Double minSize, Double maxSize, Double minPrice, Double maxPrice, String progress, int page);
+    long countByCondition(AuctionSearchCondition condition);
+
+    // 페이지 번호 기반 조회 (startTime, id 내림차순)
+    List<DetailAuctionResponseDTO> findPageByCondition(AuctionSearchCondition condition, int page, int size);
+
+    // (lastStartTime, lastId) 다음부터 조회, 무한 스크롤용
+    List<DetailAuctionResponseDTO> findNextByCondition(AuctionSearchCondition condition, LocalDateTime lastStartTime, Long lastId, int size);
+
+    // 경매 id 별 태그/이미지 주소 (등록 순서), 여러 경매를 한 번의 쿼리로 조회
+    Map<Long, List<String>> findTagsByAuctionIds(Collection<Long> auctionIds);
+
+    // 목록용이라 썸네일 주소를 주고, 썸네일이 아직 없으면 원본 주소
+    Map<Long, List<String>> findThumbnailAddressesByAuctionIds(Collection<Long> auctionIds);
 }
@@ -1,34 +1,180 @@
-//package com.turtlecoin.auctionservice.domain.auction.repository;
-//
-//import com.querydsl.jpa.impl.JPAQueryFactory;
-//import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
-//import com.turtlecoin.auctionservice.domain.auction.entity.QAuction;
-//import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.stereotype.Repository;
-//
-//import java.util.List;
-//
-//@Repository
-//@RequiredArgsConstructor
-//public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom{
-//
-//    private final JPAQueryFactory queryFactory;
-//
-//    @Override
-//    public List<Auction> findAuctionByFilters(String gender, Double minSize, Double maxSize, Double minPrice, Double maxPrice, String progress, int page) {
-//        QAuction auction = QAuction.auction;
-//
-//        return queryFactory.selectFrom(auction)
-//                .where(
-//                        // 거북이의 정보를 어떻게 가져와야할까?
-//                        gender != null ? auction.tags.any().eq(gender) : null,
-//                        minSize != null && maxSize != null ? auction.size.between(minSize, maxSize) : null,
-//                        minPrice != null && maxPrice != null ? auction.minBid.between(minPrice, maxPrice) : null,
-//                        progress != null ? auction.auctionProgress.eq(AuctionProgress.of(progress)) : null
-//                )
-//                .offset((page - 1) * 10)  // 페이지네이션 적용
-//                .limit(10)
-//                .fetch();
-//    }
-//}
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.turtlecoin.auctionservice.domain.auction.dto.AuctionSearchCondition;
+import com.turtlecoin.auctionservice.domain.auction.dto.DetailAuctionResponseDTO;
+import com.turtlecoin.auctionservice.domain.auction.dto.QDetailAuctionResponseDTO;
+import com.turtlecoin.auctionservice.domain.auction.entity.QAuction;
+import com.turtlecoin.auctionservice.domain.auction.entity.QAuctionPhoto;
+import com.turtlecoin.auctionservice.domain.auction.entity.QAuctionTag;
+import com.turtlecoin.auctionservice.domain.turtle.entity.QTurtleProjection;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// 경매 목록 조회
+// 목록은 엔티티 대신 DTO 로 바로 조회하고, 거북이 조건은 로컬 거북이 복사본과 조인한다.
+// 태그/사진은 페이지의 경매 id 로 한 번씩만 추가 조회한다. (컬렉션을 지연 로딩하면 경매마다 2번씩 조회됨)
+// 정렬은 (startTime, id) 내림차순이며 이 순서로 idx_auction_start_time_id 인덱스를 탄다.
+@RequiredArgsConstructor
+public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
+    private static final QAuction auction = QAuction.auction;
+    private static final QTurtleProjection turtle = QTurtleProjection.turtleProjection;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public long countByCondition(AuctionSearchCondition condition) {
+        JPAQuery<Long> query = queryFactory.select(auction.count()).from(auction);
+        Long count = joinTurtle(query, condition)
+                .where(where(condition))
+                .fetchOne();
+        return count != null ? count : 0;
+    }
+
+    @Override
+    public List<DetailAuctionResponseDTO> findPageByCondition(AuctionSearchCondition condition, int page, int size) {
+        List<DetailAuctionResponseDTO> auctions = selectList(condition)
+                .where(where(condition))
+                .orderBy(auction.startTime.desc(), auction.id.desc())
+                .offset((long) page * size)
+                .limit(size)
+                .fetch();
+        fillTagsAndImages(auctions);
+        return auctions;
+    }
+
+    @Override
+    public List<DetailAuctionResponseDTO> findNextByCondition(AuctionSearchCondition condition, LocalDateTime lastStartTime, Long lastId, int size) {
+        BooleanBuilder whereClause = where(condition);
+        if (lastStartTime != null && lastId != null) {
+            whereClause.and(auction.startTime.lt(lastStartTime)
+                    .or(auction.startTime.eq(lastStartTime).and(auction.id.lt(lastId))));
+        }
+
+        List<DetailAuctionResponseDTO> auctions = selectList(condition)
+                .where(whereClause)
+                .orderBy(auction.startTime.desc(), auction.id.desc())
+                .limit(size)
+                .fetch();
+        fillTagsAndImages(auctions);
+        return auctions;
+    }
+
+    private JPAQuery<DetailAuctionResponseDTO> selectList(AuctionSearchCondition condition) {
+        JPAQuery<DetailAuctionResponseDTO> query = queryFactory.select(new QDetailAuctionResponseDTO(
+                        auction.id,
+                        auction.userId,
+                        auction.turtleId,
+                        turtle.scientificName,
+                        auction.title,
+                        auction.nowBid,
+                        auction.weight,
+                        auction.content,
+                        auction.sellerAddress,
+                        auction.buyerId,
+                        auction.auctionProgress,
+                        auction.startTime))
+                .from(auction);
+        // 학명을 함께 읽기 위해 거북이 조건이 없어도 복사본과 조인한다. (복사본이 없는 경매도 나오도록 left join)
+        if (!condition.hasTurtleFilter()) {
+            return query.leftJoin(turtle).on(turtle.id.eq(auction.turtleId));
+        }
+        return joinTurtle(query, condition);
+    }
+
+    // 거북이 조건이 있을 때만 거북이 복사본과 조인
+    private <T> JPAQuery<T> joinTurtle(JPAQuery<T> query, AuctionSearchCondition condition) {
+        if (condition.hasTurtleFilter()) {
+            query.join(turtle).on(turtle.id.eq(auction.turtleId));
+        }
+        return query;
+    }
+
+    private BooleanBuilder where(AuctionSearchCondition condition) {
+        BooleanBuilder whereClause = new BooleanBuilder();
+
+        // 가격 필터 (minPrice ~ maxPrice)
+        if (condition.getMinPrice() != null) {
+            if (condition.getMaxPrice() != null) {
+                whereClause.and(auction.minBid.between(condition.getMinPrice(), condition.getMaxPrice()));
+            } else {
+                whereClause.and(auction.minBid.goe(condition.getMinPrice()));
+            }
+        } else if (condition.getMaxPrice() != null) {
+            whereClause.and(auction.minBid.loe(condition.getMaxPrice()));
+        }
+
+        // 경매 진행 상태 필터
+        if (condition.getProgress() != null) {
+            whereClause.and(auction.auctionProgress.eq(condition.getProgress()));
+        }
+
+        // 거북이 조건 (성별, 무게)
+        if (condition.getGender() != null) {
+            whereClause.and(turtle.gender.eq(condition.getGender()));
+        }
+        if (condition.getMinSize() != null) {
+            if (condition.getMaxSize() != null) {
+                whereClause.and(turtle.weight.between(condition.getMinSize(), condition.getMaxSize()));
+            } else {
+                whereClause.and(turtle.weight.goe(condition.getMinSize()));
+            }
+        } else if (condition.getMaxSize() != null) {
+            whereClause.and(turtle.weight.loe(condition.getMaxSize()));
+        }
+        return whereClause;
+    }
+
+    @Override
+    public Map<Long, List<String>> findTagsByAuctionIds(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        QAuctionTag auctionTag = QAuctionTag.auctionTag;
+        return groupByAuction(queryFactory.select(auctionTag.auction.id, auctionTag.tag)
+                .from(auctionTag)
+                .where(auctionTag.auction.id.in(auctionIds))
+                .orderBy(auctionTag.id.asc())
+                .fetch(), auctionTag.auction.id, auctionTag.tag);
+    }
+
+    @Override
+    public Map<Long, List<String>> findThumbnailAddressesByAuctionIds(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        QAuctionPhoto auctionPhoto = QAuctionPhoto.auctionPhoto;
+        Expression<String> image = auctionPhoto.thumbnailAddress.coalesce(auctionPhoto.imageAddress);
+        return groupByAuction(queryFactory.select(auctionPhoto.auction.id, image)
+                .from(auctionPhoto)
+                .where(auctionPhoto.auction.id.in(auctionIds))
+                .orderBy(auctionPhoto.id.asc())
+                .fetch(), auctionPhoto.auction.id, image);
+    }
+
+    private void fillTagsAndImages(List<DetailAuctionResponseDTO> auctions) {
+        if (auctions.isEmpty()) {
+            return;
+        }
+        List<Long> auctionIds = auctions.stream().map(DetailAuctionResponseDTO::getAuctionId).toList();
+        Map<Long, List<String>> tags = findTagsByAuctionIds(auctionIds);
+        Map<Long, List<String>> images = findThumbnailAddressesByAuctionIds(auctionIds);
+
+        auctions.forEach(dto -> dto.updateTagsAndImages(
+                tags.getOrDefault(dto.getAuctionId(), new ArrayList<>()),
+                images.getOrDefault(dto.getAuctionId(), new ArrayList<>())));
+    }
+
+    private Map<Long, List<String>> groupByAuction(List<Tuple> rows,
+                                                   Expression<Long> auctionId, Expression<String> value) {
+        return rows.stream().collect(Collectors.groupingBy(row -> row.get(auctionId),
+                Collectors.mapping(row -> row.get(value), Collectors.toList())));
+    }
+}
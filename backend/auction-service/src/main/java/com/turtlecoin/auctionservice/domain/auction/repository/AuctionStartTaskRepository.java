@@ -0,0 +1,50 @@
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionStartTask;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionStartTaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AuctionStartTaskRepository extends JpaRepository<AuctionStartTask, Long> {
+    boolean existsByAuctionId(Long auctionId);
+
+    // until 까지 시작해야 하고, 아무도 처리 중이 아니거나 lease 가 만료된 예약
+    @Query("select t from AuctionStartTask t where t.status = :status and t.executeAt <= :until " +
+            "and (t.leaseUntil is null or t.leaseUntil < :now) order by t.executeAt")
+    List<AuctionStartTask> findDue(@Param("status") AuctionStartTaskStatus status, @Param("until") LocalDateTime until,
+                                   @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 시작 시각이 됐고 다른 서버가 처리 중이 아닌 예약을 시작 시각 단위로 한 번에 lease 획득 (변경된 행 수 반환)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AuctionStartTask t set t.owner = :owner, t.leaseUntil = :leaseUntil, t.attempts = t.attempts + 1 " +
+            "where t.executeAt = :executeAt and t.status = :status and t.executeAt <= :now " +
+            "and (t.leaseUntil is null or t.leaseUntil < :now)")
+    int claimAll(@Param("executeAt") LocalDateTime executeAt, @Param("status") AuctionStartTaskStatus status,
+                 @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    // claimAll 로 이 서버가 잡은 예약 (처리가 끝나면 상태가 바뀌거나 owner 가 비워지므로 이번 lease 만 조회된다)
+    @Query("select t from AuctionStartTask t where t.executeAt = :executeAt and t.status = :status and t.owner = :owner")
+    List<AuctionStartTask> findClaimed(@Param("executeAt") LocalDateTime executeAt, @Param("status") AuctionStartTaskStatus status,
+                                       @Param("owner") String owner);
+
+    // lease 를 가진 서버만 상태 변경
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AuctionStartTask t set t.status = :status, t.leaseUntil = null where t.id in :ids and t.owner = :owner")
+    int finishAll(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("status") AuctionStartTaskStatus status);
+
+    // 실패 시 lease 반납, retryAt 이후 다시 시도된다.
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update AuctionStartTask t set t.owner = null, t.leaseUntil = :retryAt where t.id in :ids and t.owner = :owner")
+    int releaseAll(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("retryAt") LocalDateTime retryAt);
+}
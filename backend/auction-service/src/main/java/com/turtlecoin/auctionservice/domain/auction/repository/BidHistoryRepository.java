@@ -0,0 +1,12 @@
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.BidHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BidHistoryRepository extends JpaRepository<BidHistory, Long> {
+    Page<BidHistory> findByAuctionIdOrderBySeqDesc(Long auctionId, Pageable pageable);
+}
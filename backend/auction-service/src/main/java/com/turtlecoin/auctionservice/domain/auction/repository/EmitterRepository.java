@@ -1,45 +1,51 @@
 package com.turtlecoin.auctionservice.domain.auction.repository;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.turtlecoin.auctionservice.domain.global.internal.EmitterMapper;
 
-import lombok.AllArgsConstructor;
-
 @Repository
 public class EmitterRepository {
     // SSE는 어짜피 메모리에서 관리하기 때문에 Map써서 관리한다.
-    private final Map<Long, List<EmitterMapper>> emitters = new ConcurrentHashMap<>();
+    // 구독자가 수만 명이어도 추가/삭제가 O(1) 이도록 경매별로 uuid -> emitter 맵을 두고, 비면 경매 채널째 지운다.
+    private final Map<Long, Map<String, EmitterMapper>> emitters = new ConcurrentHashMap<>();
+
+    // 구독자마다 쌓아둘 수 있는 이벤트 수
+    @Value("${auction.sse.buffer-size:32}")
+    private int bufferSize;
 
     public String save(Long id, SseEmitter emitter) {
-        if(!emitters.containsKey(id)) {
-            // 조회 성능상 링크드 리스트가 나을듯
-            emitters.put(id, new CopyOnWriteArrayList<>());
-        }
         String uuid = UUID.randomUUID().toString();
-        emitters.get(id).add(new EmitterMapper(uuid, emitter));
+        emitters.compute(id, (key, mappers) -> {
+            Map<String, EmitterMapper> channel = mappers != null ? mappers : new ConcurrentHashMap<>();
+            channel.put(uuid, new EmitterMapper(uuid, emitter, bufferSize));
+            return channel;
+        });
         return uuid;
     }
 
-    public List<EmitterMapper> get(Long id) {
-        return emitters.getOrDefault(id, Collections.emptyList());
+    public Collection<EmitterMapper> get(Long id) {
+        Map<String, EmitterMapper> mappers = emitters.get(id);
+        return mappers != null ? mappers.values() : Collections.emptyList();
+    }
+
+    public Set<Long> getIds() {
+        return emitters.keySet();
     }
 
     public void deleteByIdAndUUID(Long id, String uuid) {
-        List<EmitterMapper> mappers = emitters.get(id);
-        if (mappers != null) {
-            mappers.removeIf(mapper -> mapper.getUuid().equals(uuid));
-        }
+        emitters.computeIfPresent(id, (key, mappers) -> {
+            mappers.remove(uuid);
+            return mappers.isEmpty() ? null : mappers;
+        });
     }
 }
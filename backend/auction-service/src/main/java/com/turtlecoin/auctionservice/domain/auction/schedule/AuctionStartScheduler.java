@@ -0,0 +1,159 @@
+package com.turtlecoin.auctionservice.domain.auction.schedule;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionStartTask;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionStartTaskStatus;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionStartTaskRepository;
+import com.turtlecoin.auctionservice.domain.auction.service.BidService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 경매 시작 스케줄러
+// 시작 예약은 DB(auction_start_task)에 저장하고, 모든 서버가 주기적으로 곧 시작할 예약을 읽어 로컬 타이머에 올린다.
+// 시작 시각이 되면 그 시각의 예약 전체에 lease 를 먼저 잡은 서버가 한 번에 시작 처리하고, 처리 중 서버가 죽으면 lease 만료 후 다른 서버가 이어받는다.
+// 서버가 내려가 있는 동안 지난 예약은 다음 조회에서 바로 실행되므로, 시작 지연은 최대 조회 주기 정도다.
+@Slf4j
+@Component
+public class AuctionStartScheduler {
+    private static final int MAX_ATTEMPTS = 5;
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private final AuctionStartTaskRepository taskRepository;
+    private final AuctionRepository auctionRepository;
+    private final BidService bidService;
+    private final LiveAuctionRegistry liveAuctionRegistry;
+    private final TaskScheduler taskScheduler;
+    private final String ownerId;
+    private final Set<LocalDateTime> armed = ConcurrentHashMap.newKeySet();
+
+    @Value("${auction.start.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    @Value("${auction.start.lease-ms:30000}")
+    private long leaseMillis;
+
+    @Value("${auction.start.retry-delay-ms:5000}")
+    private long retryDelayMillis;
+
+    @Value("${auction.start.prewarm-ms:10000}")
+    private long prewarmMillis;
+
+    public AuctionStartScheduler(AuctionStartTaskRepository taskRepository,
+                                 AuctionRepository auctionRepository,
+                                 BidService bidService,
+                                 LiveAuctionRegistry liveAuctionRegistry,
+                                 @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                 @Value("${eureka.instance.instance-id:auction-service}") String instanceId) {
+        this.taskRepository = taskRepository;
+        this.auctionRepository = auctionRepository;
+        this.bidService = bidService;
+        this.liveAuctionRegistry = liveAuctionRegistry;
+        this.taskScheduler = taskScheduler;
+        // 같은 서버가 재시작한 경우도 구분하기 위해 UUID 를 붙임
+        this.ownerId = instanceId + ":" + UUID.randomUUID();
+    }
+
+    // 서버 시작 시 예약이 없는 경매를 채워 넣고 조회 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        backfill();
+        taskScheduler.scheduleAtFixedRate(this::poll, Duration.ofMillis(pollIntervalMillis));
+    }
+
+    // 경매 등록 트랜잭션 안에서 호출되면 경매와 함께 커밋된다.
+    public void schedule(Long auctionId, LocalDateTime startTime) {
+        taskRepository.save(AuctionStartTask.of(auctionId, startTime));
+    }
+
+    // 이 스케줄러 이전에 등록된 경매(메모리에만 예약돼 있던 경매) 이관
+    private void backfill() {
+        List<Auction> auctions = auctionRepository.findByAuctionProgress(AuctionProgress.BEFORE_AUCTION);
+        for (Auction auction : auctions) {
+            if (taskRepository.existsByAuctionId(auction.getId())) {
+                continue;
+            }
+            try {
+                schedule(auction.getId(), auction.getStartTime());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 서버가 먼저 등록함
+            }
+        }
+    }
+
+    // 곧 시작할 예약을 시작 시각별로 묶어 로컬 타이머에 올림, 이미 지난 예약은 바로 실행
+    // 같은 시각에 시작하는 경매가 많아도 타이머는 시각마다 하나만 건다.
+    // 모든 서버가 시작 prewarm-ms 전부터 경매 정보를 메모리에 올려둔다. (입장 요청은 어느 서버로든 올 수 있음)
+    private void poll() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            long lookAheadMillis = Math.max(prewarmMillis, 2 * pollIntervalMillis);
+            List<AuctionStartTask> due = taskRepository.findDue(AuctionStartTaskStatus.PENDING,
+                    now.plus(Duration.ofMillis(lookAheadMillis)), now, PageRequest.of(0, POLL_BATCH_SIZE));
+            due.stream()
+                    .map(AuctionStartTask::getExecuteAt)
+                    .distinct()
+                    .filter(armed::add)
+                    .forEach(executeAt -> taskScheduler.schedule(() -> fire(executeAt),
+                            executeAt.atZone(ZoneId.systemDefault()).toInstant()));
+            liveAuctionRegistry.prewarm(due.stream().map(AuctionStartTask::getAuctionId).toList());
+        } catch (Exception e) {
+            log.error("경매 시작 예약 조회 중 오류 발생", e);
+        }
+    }
+
+    // 시작 시각이 같은 예약을 한 번에 lease 잡고, 잡은 경매를 한 번에 시작
+    private void fire(LocalDateTime executeAt) {
+        armed.remove(executeAt);
+        LocalDateTime now = LocalDateTime.now();
+        // 다른 서버가 처리 중인 예약은 lease 를 얻지 못한다.
+        if (taskRepository.claimAll(executeAt, AuctionStartTaskStatus.PENDING, ownerId,
+                now.plus(Duration.ofMillis(leaseMillis)), now) == 0) {
+            return;
+        }
+
+        List<AuctionStartTask> tasks = taskRepository.findClaimed(executeAt, AuctionStartTaskStatus.PENDING, ownerId);
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Long> taskIds = tasks.stream().map(AuctionStartTask::getId).toList();
+        List<Long> auctionIds = tasks.stream().map(AuctionStartTask::getAuctionId).toList();
+        try {
+            List<Long> started = bidService.startAuctions(auctionIds);
+            taskRepository.finishAll(taskIds, ownerId, AuctionStartTaskStatus.DONE);
+            log.info("경매 시작 처리: 시작 시각 = {}, 예약 = {}, 시작 = {}, 지연 = {}ms", executeAt, tasks.size(), started.size(),
+                    Duration.between(executeAt, LocalDateTime.now()).toMillis());
+        } catch (Exception e) {
+            log.error("경매 시작 처리 중 오류 발생: 시작 시각 = {}, auctionIds = {}, error = {}", executeAt, auctionIds, e.getMessage());
+            // claimAll 에서 attempts 가 이미 증가했다.
+            Map<Boolean, List<Long>> exhausted = tasks.stream()
+                    .collect(Collectors.partitioningBy(task -> task.getAttempts() >= MAX_ATTEMPTS,
+                            Collectors.mapping(AuctionStartTask::getId, Collectors.toList())));
+            if (!exhausted.get(true).isEmpty()) {
+                taskRepository.finishAll(exhausted.get(true), ownerId, AuctionStartTaskStatus.FAILED);
+            }
+            if (!exhausted.get(false).isEmpty()) {
+                taskRepository.releaseAll(exhausted.get(false), ownerId, LocalDateTime.now().plus(Duration.ofMillis(retryDelayMillis)));
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.turtlecoin.auctionservice.domain.auction.sequencer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 경매 하나에 대한 입찰 큐
+// 큐에 들어온 순서대로 한 번에 하나씩만 실행한다.
+@Slf4j
+public class BidMailbox {
+    private final Long auctionId;
+    private final BlockingQueue<Runnable> queue;
+    private final Executor executor;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public BidMailbox(Long auctionId, int capacity, Executor executor) {
+        this.auctionId = auctionId;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.executor = executor;
+    }
+
+    // 큐가 가득 차면 false 반환
+    public boolean offer(Runnable bid) {
+        if (!queue.offer(bid)) {
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void schedule() {
+        if (running.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable bid;
+            while ((bid = queue.poll()) != null) {
+                try {
+                    bid.run();
+                } catch (Exception e) {
+                    log.error("입찰 큐 처리 중 오류 발생: auctionId = {}", auctionId, e);
+                }
+            }
+        } finally {
+            running.set(false);
+            // drain 종료 직후 들어온 입찰이 있으면 다시 실행
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.turtlecoin.auctionservice.domain.auction.sequencer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 경매별로 입찰을 도착 순서대로 처리하는 sequencer
+// auction.bid.sequencer.enabled=true 일 때만 STOMP 입찰 요청이 이 큐를 거친다.
+@Slf4j
+@Component
+public class BidSequencer {
+    private static final String QUEUE_DEPTH_METRIC = "auction.bid.queue.depth";
+    // 종료 후 늦게 도착한 입찰이 큐와 메트릭을 다시 만들지 않도록 종료된 경매 id 를 잠시 기억한다.
+    private static final Duration CLOSED_RETENTION = Duration.ofHours(1);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, BidMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final Map<Long, Meter.Id> gauges = new ConcurrentHashMap<>();
+    private final Cache<Long, Boolean> closedAuctions = Caffeine.newBuilder()
+            .expireAfterWrite(CLOSED_RETENTION)
+            .build();
+
+    @Value("${auction.bid.sequencer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${auction.bid.sequencer.queue-capacity:256}")
+    private int queueCapacity;
+
+    public BidSequencer(@Qualifier("bidSequencerExecutor") ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 큐가 가득 찼거나 이미 종료된 경매라서 입찰을 받을 수 없으면 false 반환
+    public boolean submit(Long auctionId, Runnable bid) {
+        BidMailbox mailbox = mailboxes.computeIfAbsent(auctionId,
+                id -> isClosed(id) ? null : createMailbox(id));
+        if (mailbox == null) {
+            log.info("종료된 경매의 입찰 요청: auctionId = {}", auctionId);
+            return false;
+        }
+        boolean accepted = mailbox.offer(bid);
+        if (!accepted) {
+            log.warn("입찰 큐가 가득 찼습니다: auctionId = {}, capacity = {}", auctionId, queueCapacity);
+        }
+        return accepted;
+    }
+
+    public boolean isClosed(Long auctionId) {
+        return closedAuctions.getIfPresent(auctionId) != null;
+    }
+
+    // 경매 종료 시 큐와 메트릭 제거, 이후 들어오는 입찰은 거절한다.
+    public void remove(Long auctionId) {
+        closedAuctions.put(auctionId, Boolean.TRUE);
+        evict(auctionId);
+    }
+
+    // 마감 sweep 에서 호출, 진행 중 목록에 없는 경매의 큐와 메트릭 제거
+    // 종료 처리(remove)는 lease 를 얻은 서버에서만 하므로 나머지 서버의 큐는 여기서 정리된다.
+    public void evictClosed(Set<Long> liveAuctionIds) {
+        mailboxes.keySet().stream()
+                .filter(auctionId -> !liveAuctionIds.contains(auctionId))
+                .toList()
+                .forEach(this::evict);
+    }
+
+    private void evict(Long auctionId) {
+        mailboxes.remove(auctionId);
+        Meter.Id gaugeId = gauges.remove(auctionId);
+        if (gaugeId != null) {
+            meterRegistry.remove(gaugeId);
+        }
+    }
+
+    private BidMailbox createMailbox(Long auctionId) {
+        BidMailbox mailbox = new BidMailbox(auctionId, queueCapacity, executor);
+        Gauge gauge = Gauge.builder(QUEUE_DEPTH_METRIC, mailbox, BidMailbox::size)
+                .description("경매별 대기 중인 입찰 수")
+                .tag("auctionId", auctionId.toString())
+                .register(meterRegistry);
+        gauges.put(auctionId, gauge.getId());
+        return mailbox;
+    }
+}
@@ -1,17 +1,21 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionResponseCache;
+import com.turtlecoin.auctionservice.domain.auction.deadline.AuctionClock;
 import com.turtlecoin.auctionservice.domain.auction.dto.*;
 import com.turtlecoin.auctionservice.domain.auction.entity.*;
-import com.turtlecoin.auctionservice.domain.auction.facade.RedissonLockFacade;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionPhotoRepository;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.schedule.AuctionStartScheduler;
+import com.turtlecoin.auctionservice.domain.s3.dto.ImageVariants;
 import com.turtlecoin.auctionservice.domain.s3.service.ImageUploadService;
+import com.turtlecoin.auctionservice.domain.s3.service.ImageVariantService;
 import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
 import com.turtlecoin.auctionservice.feign.dto.TurtleResponseDTO;
 import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
 import com.turtlecoin.auctionservice.feign.MainClient;
 import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
+import com.turtlecoin.auctionservice.feign.service.TurtleInfoService;
 import com.turtlecoin.auctionservice.feign.service.UserService;
 import com.turtlecoin.auctionservice.global.exception.*;
 import com.turtlecoin.auctionservice.global.response.ResponseVO;
@@ -19,8 +23,6 @@ import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.AmqpConnectException;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.HttpStatus;
@@ -33,9 +35,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -47,19 +46,22 @@ public class AuctionService {
     private final AuctionRepository auctionRepository;
     private final ImageUploadService imageUploadService;  // ImageUploadService도 주입합니다.
     private final MainClient mainClient;
-    private final JPAQueryFactory queryFactory;
-    private final RedissonLockFacade redissonLockFacade;
-    private final SchedulingService schedulingService;
-    private final BidService bidService;
+    private final AuctionStartScheduler auctionStartScheduler;
     private final SseService sseService;
     private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
     private static final String AUCTION_BID_KEY = "auction_bid_";
+    private static final int AUCTION_PAGE_SIZE = 20;
     private final UserService userService;
+    private final AuctionClock auctionClock;
+    private final TurtleInfoService turtleInfoService;
+    private final AuctionResponseCache auctionResponseCache;
+    private final ImageVariantService imageVariantService;
+    private final AuctionPhotoRepository auctionPhotoRepository;
 
     // 경매 등록
     @Transactional
     public ResponseEntity<?> registerAuction(RegisterAuctionDTO registerAuctionDTO, List<MultipartFile> images) {
-        List<AuctionPhoto> uploadedPhotos = new ArrayList<>();
+        List<String> uploadedImages = new ArrayList<>();
         try {
             if (registerAuctionDTO.getTurtleId() == null || registerAuctionDTO.getSellerAddress() == null || registerAuctionDTO.getTitle() == null || registerAuctionDTO.getMinBid() == null) {
                 throw new IllegalArgumentException("필수 필드가 누락됐습니다.");
@@ -79,23 +81,24 @@ public class AuctionService {
                 throw new PhotoNotUploadedException("사진이 등록되지 않았습니다.");
             }
 
-            uploadedPhotos = uploadImages(images, null);  // 경매와 아직 연결되지 않은 상태에서 업로드
+            // 이미지는 한 번만 (동시에) 업로드하고, 경매 저장 후 연결
+            uploadedImages = imageUploadService.uploadMultiple(images, "auctionImages");
             log.info("이미지 업로드 완료");
 
             // 경매 저장
             Auction auction = auctionRepository.save(registerAuctionDTO.toEntity());
             log.info("경매 저장");
-            // 동적 스케줄링 수행
-            Consumer<Long> startAuction = bidService::startAuction;
-            schedulingService.scheduleTask(auction.getId(), startAuction, auction.getStartTime());
-            log.info("스케줄링 완료");
-            // 이미지 업로드 처리
-            if (images != null && !images.isEmpty()) {
-                uploadedPhotos = uploadImages(images, auction);  // 이미지 업로드
-                auction.getAuctionPhotos().addAll(uploadedPhotos);  // 업로드된 이미지 경매와 연결
-            } else {
-                throw new PhotoNotUploadedException("사진이 등록되지 않았습니다.");
+            for (String imageAddress : uploadedImages) {
+                auction.getAuctionPhotos().add(AuctionPhoto.builder().imageAddress(imageAddress).auction(auction).build());
             }
+            // 썸네일/중간 크기 이미지는 커밋 후 백그라운드에서 생성
+            Long auctionId = auction.getId();
+            imageVariantService.generateAfterCommit(uploadedImages,
+                    (imageAddress, variants) -> updatePhotoVariants(auctionId, imageAddress, variants));
+            auctionResponseCache.bumpList();
+            // 경매 시작 예약 (경매와 같은 트랜잭션으로 저장)
+            auctionStartScheduler.schedule(auction.getId(), auction.getStartTime());
+            log.info("스케줄링 완료");
             return new ResponseEntity<>(ResponseVO.success("경매가 등록됐습니다.","auctionId", auction.getId()), HttpStatus.OK);
 
 
@@ -108,19 +111,19 @@ public class AuctionService {
 
         } catch (NumberFormatException e) {
             // 숫자 형식이 잘못된 경우 예외 처리
-            deleteUploadedImages(uploadedPhotos);
+            deleteUploadedImages(uploadedImages);
             return new ResponseEntity<>(ResponseVO.failure("400", "잘못된 형식의 입력값이 있습니다."), HttpStatus.BAD_REQUEST);
 
         } catch (IllegalArgumentException e) {
             // 기타 잘못된 인자 처리
-            deleteUploadedImages(uploadedPhotos);
+            deleteUploadedImages(uploadedImages);
             return new ResponseEntity<>(ResponseVO.failure("400", "필수 필드가 누락되었습니다."), HttpStatus.BAD_REQUEST);
         } catch (PhotoNotUploadedException e) {
             return new ResponseEntity<>(ResponseVO.failure("400", "사진이 등록되지 않았습니다."), HttpStatus.BAD_REQUEST);
         } catch (MultipartException e) {
             // Multipart 관련 예외 처리
             log.error("MultipartException 발생: {}", e.getMessage());
-            deleteUploadedImages(uploadedPhotos);
+            deleteUploadedImages(uploadedImages);
             return new ResponseEntity<>(ResponseVO.failure("400", "잘못된 요청입니다. multipart/form-data 형식으로 요청해주세요."), HttpStatus.BAD_REQUEST);
         } catch (AuctionTimeNotValidException e) {
             return new ResponseEntity<>(ResponseVO.failure("400", "현재시간보다 이전으로 경매시작시간을 등록할 수 없습니다,"), HttpStatus.BAD_REQUEST);
@@ -128,21 +131,11 @@ public class AuctionService {
 
         catch (Exception e) {
             log.info("기타 오류 발생");
-            deleteUploadedImages(uploadedPhotos);
+            deleteUploadedImages(uploadedImages);
             return new ResponseEntity<>(ResponseVO.failure("500", "서버 내부 오류가 발생했습니다. " + e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
-    // 이미지 업로드 처리 메서드
-    private List<AuctionPhoto> uploadImages(List<MultipartFile> images, Auction auction) throws IOException {
-        List<AuctionPhoto> photos = new ArrayList<>();
-        for (MultipartFile image : images) {
-            String imagePath = imageUploadService.upload(image, "auctionImages");
-            photos.add(AuctionPhoto.builder().imageAddress(imagePath).auction(auction).build());
-        }
-        return photos;
-    }
-
     // 사용자가 소유한 거북이인지 검증 메서드
     private void validateUserOwnsTurtle(Long userId, Long turtleId) {
         log.info("Main-service에서 조회");
@@ -195,62 +188,36 @@ public class AuctionService {
         return auctionRepository.save(auction);
     }
 
+    private void updatePhotoVariants(Long auctionId, String imageAddress, ImageVariants variants) {
+        auctionPhotoRepository.updateVariants(imageAddress, variants.thumbnailAddress(), variants.mediumAddress());
+        auctionResponseCache.bumpDetail(auctionId);
+        auctionResponseCache.bumpList();
+    }
+
     // 업로드된 이미지 삭제 메서드
-    public void deleteUploadedImages(List<AuctionPhoto> auctionPhotos) {
-        for (AuctionPhoto photo : auctionPhotos) {
-            imageUploadService.deleteS3(photo.getImageAddress());
+    public void deleteUploadedImages(List<String> imageAddresses) {
+        for (String imageAddress : imageAddresses) {
+            imageUploadService.deleteS3(imageAddress);
         }
     }
 
     // 경매 ID로 경매 조회
+    // 응답은 캐시하고, 남은 시간/서버 시각만 요청마다 다시 채운다.
     public ResponseEntity<?> getAuctionById(Long auctionId) {
         try {
-            Auction auction = auctionRepository.findById(auctionId)
-                    .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다: " + auctionId));
-
-            TurtleFilteredResponseDTO turtle = mainClient.getTurtle(auction.getTurtleId());
+            AuctionResponseDTO cached = auctionResponseCache.getDetail(auctionId, () -> loadAuctionDetail(auctionId));
 
-            if (turtle == null) {
-                log.warn("거북이 정보를 찾을 수 없습니다: turtleId={}", auction.getTurtleId());
-                throw new TurtleNotFoundException("Main-service에서 거북이정보를 찾을 수 없습니다.");
-            }
-            log.info("TurtleID: {}",turtle.getId());
-            UserResponseDTO user = mainClient.getUserById(auction.getUserId());
-            if (turtle == null) {
-                log.warn("사용자 정보를 찾을 수 없습니다: UserId={}", auction.getUserId());
-                throw new UserNotFoundException("Main-service에서 사용자정보를 찾을 수 없습니다.");
-            }
-            log.info("UserID: {}",user.getUserId());
-
-            String key = AUCTION_END_KEY_PREFIX+auction;
-            // null값일 때 어떻게 하지?
-            Long remainingTime = redisTemplate.getExpire(AUCTION_END_KEY_PREFIX+auctionId, TimeUnit.MILLISECONDS);
-
-//            // 종료됐거나, 시작하지 않았을 때
-//            if (remainingTime == -2) {
-//                if (auction.getEndTime().isAfter(LocalDateTime.now())) {
-//                    remainingTime = 0L;
-//                } else {
-//                    // 아직 시작 안한 경매
-//                    remainingTime = 0L;
-//                }
-//            }
-
-            Object bidAmountObj = redisTemplate.opsForHash().get(key, "bidAmount");
-            String nickname;
-            Double nowBid;
-            if (bidAmountObj == null) {
-                nowBid = auction.getMinBid();
-                log.info("redis에 입찰 가격이 없을 때");
-                nickname = null;
-            } else {
-                nowBid = Double.parseDouble(bidAmountObj.toString());  // Object를 Double로 변환
-                Long bidUserId = (long) redisTemplate.opsForHash().get(key, "userId");
-                nickname = userService.getUserNicknameById(bidUserId);
-                log.info("redis에 입찰 가격이 있을 때");
-            }
+            // 진행 중이 아니면 null
+            Long endTime = auctionClock.getEndTime(auctionId);
+            long serverTime = auctionClock.now();
+            Long remainingTime = endTime != null ? Math.max(endTime - serverTime, 0) : null;
             log.info("RemainingTime : {}", remainingTime);
-            AuctionResponseDTO data = AuctionResponseDTO.from(auction, turtle, user, remainingTime, nowBid, nickname);
+
+            AuctionResponseDTO data = cached.toBuilder()
+                    .remainingTime(remainingTime)
+                    .endTimestamp(endTime)
+                    .serverTime(serverTime)
+                    .build();
             return new ResponseEntity<>(ResponseVO.success("경매가 정상적으로 조회되었습니다.", "auction", data), HttpStatus.OK);
         } catch (AuctionNotFoundException e) {
             return new ResponseEntity<>(ResponseVO.failure("400", e.getMessage()), HttpStatus.BAD_REQUEST);
@@ -262,17 +229,59 @@ public class AuctionService {
         }
     }
 
+    private AuctionResponseDTO loadAuctionDetail(Long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다: " + auctionId));
+
+        // 판매자와 현재 최고 입찰자 정보는 한 번에 조회
+        Map<Object, Object> bidData = redisTemplate.opsForHash().entries(AUCTION_BID_KEY + auctionId);
+        Long bidUserId = bidData.get("userId") != null ? Long.parseLong(bidData.get("userId").toString()) : null;
+        Map<Long, UserResponseDTO> users = userService.getUsersByIds(Arrays.asList(auction.getUserId(), bidUserId));
+
+        TurtleFilteredResponseDTO turtle = turtleInfoService.getTurtle(auction.getTurtleId());
+        if (turtle == null) {
+            log.warn("거북이 정보를 찾을 수 없습니다: turtleId={}", auction.getTurtleId());
+            throw new TurtleNotFoundException("Main-service에서 거북이정보를 찾을 수 없습니다.");
+        }
+        log.info("TurtleID: {}",turtle.getId());
+        UserResponseDTO user = users.get(auction.getUserId());
+        if (user == null) {
+            log.warn("사용자 정보를 찾을 수 없습니다: UserId={}", auction.getUserId());
+            throw new UserNotFoundException("Main-service에서 사용자정보를 찾을 수 없습니다.");
+        }
+        log.info("UserID: {}",user.getUserId());
+
+        String nickname;
+        Double nowBid;
+        if (bidData.get("bidAmount") == null) {
+            nowBid = auction.getMinBid();
+            log.info("redis에 입찰 가격이 없을 때");
+            nickname = null;
+        } else {
+            nowBid = Double.parseDouble(bidData.get("bidAmount").toString());
+            UserResponseDTO bidUser = users.get(bidUserId);
+            nickname = bidUser != null ? bidUser.getNickname() : null;
+            log.info("redis에 입찰 가격이 있을 때");
+        }
+        return AuctionResponseDTO.from(auction, turtle, user, null, nowBid, nickname, null, null);
+    }
+
     public List<AuctionListResponseDto> getMyAuctions(Long userId) throws IOException {
 
         try{
             // Auction 엔티티 목록 가져오기
             List<Auction> auctions = auctionRepository.findAllByUser(userId);
+            // 태그와 이미지는 경매마다 지연 로딩하지 않고 한 번씩만 조회
+            List<Long> auctionIds = auctions.stream().map(Auction::getId).toList();
+            Map<Long, List<String>> tags = auctionRepository.findTagsByAuctionIds(auctionIds);
+            Map<Long, List<String>> images = auctionRepository.findThumbnailAddressesByAuctionIds(auctionIds);
 
             // Turtle 정보와 User 정보는 각 Auction과 관련된 데이터를 적절히 조회해서 전달해야 합니다.
             return auctions.stream()
                     .map(auction -> {
                         // 첫 번째 이미지 주소 추출
-                        String firstImageUrl = auction.getFirstImageUrl();
+                        List<String> auctionImages = images.getOrDefault(auction.getId(), List.of());
+                        String firstImageUrl = auctionImages.isEmpty() ? null : auctionImages.get(0);
 
                         // AuctionResultDTO로 변환
                         return AuctionListResponseDto.builder()
@@ -288,9 +297,7 @@ public class AuctionService {
                                 .buyerId(auction.getBuyerId())
                                 .sellerId(auction.getUserId())
                                 .images(firstImageUrl)
-                                .tags(auction.getAuctionTags().stream()
-                                        .map(AuctionTag::getTag)
-                                        .collect(Collectors.toList())) // 태그 리스트
+                                .tags(tags.getOrDefault(auction.getId(), new ArrayList<>())) // 태그 리스트
                                 .build();
                     })
                     .toList(); // 리스트로 수집
@@ -301,79 +308,22 @@ public class AuctionService {
     }
 
     // 경매 필터링 후 조회
-    public ResponseEntity<?> getFilteredAuctions(Gender gender, Double minSize, Double maxSize, Double minPrice, Double maxPrice, AuctionProgress progress, int page) {
+    // lastStartTime, lastId 가 있으면 그 다음부터 조회하고(무한 스크롤), 없으면 page 로 조회한다.
+    public ResponseEntity<?> getFilteredAuctions(Gender gender, Double minSize, Double maxSize, Double minPrice, Double maxPrice,
+                                                 AuctionProgress progress, int page, LocalDateTime lastStartTime, Long lastId) {
         try {
-            QAuction auction = QAuction.auction;
-
-            BooleanBuilder whereClause = new BooleanBuilder();
-
-            // 가격 필터 (minPrice ~ maxPrice)
-            if (minPrice != null) {
-                if (maxPrice != null) {
-                    whereClause.and(auction.minBid.between(minPrice, maxPrice));
-                } else {
-                    whereClause.and(auction.minBid.goe(minPrice));
-                }
-            } else if (maxPrice != null) {
-                whereClause.and(auction.minBid.loe(maxPrice));
-            }
-
-            // 경매 진행 상태 필터
-            if (progress != null) {
-                whereClause.and(auction.auctionProgress.eq(progress));
-            }
-
-            // main-service에서 필터링 엔드포인트 열어둘 것
-            // 무게로 거북이 필터링
-
-            List<TurtleFilteredResponseDTO> filteredTurtles = mainClient.getFilteredTurtles(gender, minSize, maxSize);
-
-            // filteredTurtles 리스트를 Map으로 변환 (turtleId를 키로 사용)
-            Map<Long, TurtleFilteredResponseDTO> turtleMap = filteredTurtles.stream()
-                    .collect(Collectors.toMap(TurtleFilteredResponseDTO::getId, turtle -> turtle));
-
-            long totalAuctions = queryFactory.selectFrom(auction)
-                    .where(whereClause.and(auction.turtleId.in(turtleMap.keySet())))
-                    .fetch()
-                    .size();
-
-            List<Auction> auctions = queryFactory.selectFrom(auction)
-                    .where(whereClause.and(auction.turtleId.in(turtleMap.keySet())))
-                    .offset(page * 20L)
-                    .limit(20)
-                    .fetch();
-
-            // DetailAuctionResponseDTO 리스트 생성
-            List<DetailAuctionResponseDTO> dtos = auctions.stream()
-                    .map(a -> {
-                        UserResponseDTO userInfo = mainClient.getUserById(a.getUserId());
-                        TurtleFilteredResponseDTO turtleInfo = turtleMap.get(a.getTurtleId());
-                        return DetailAuctionResponseDTO.builder()
-                                .auctionId(a.getId())
-                                .sellerId(a.getUserId())
-                                .sellerName(userInfo.getName())
-                                .turtleId(a.getTurtleId())
-                                .scientificName("임시 거북이 학명!")
-                                .title(a.getTitle())
-                                .price(a.getNowBid())
-                                .weight(a.getWeight())
-                                .content(a.getContent())
-                                .sellerImageUrl(userInfo.getProfileImage())
-                                .sellerAddress(a.getSellerAddress())
-                                .buyerId(a.getBuyerId())
-                                .progress(a.getAuctionProgress().toString())
-                                .auctionTag(a.getAuctionTags().stream().map(AuctionTag::getTag).collect(Collectors.toList()))
-                                .auctionImage(a.getAuctionPhotos().stream().map(AuctionPhoto::getImageUrl).collect(Collectors.toList()))
-                                .build();
-                    })
-                    .toList();
-
-            int totalPages = (int) Math.ceil((double) totalAuctions / 20);
-
-            Map<String, Object> data = new HashMap<>();
-            data.put("auctions", dtos);
-            data.put("total_pages", totalPages);
-            log.info("dtos : {}", dtos);
+            AuctionSearchCondition condition = AuctionSearchCondition.builder()
+                    .gender(gender)
+                    .minSize(minSize)
+                    .maxSize(maxSize)
+                    .minPrice(minPrice)
+                    .maxPrice(maxPrice)
+                    .progress(progress)
+                    .build();
+
+            String cacheKey = condition + ":" + page + ":" + lastStartTime + ":" + lastId;
+            Map<String, Object> data = auctionResponseCache.getList(cacheKey,
+                    () -> loadAuctionList(condition, page, lastStartTime, lastId));
             return new ResponseEntity<>(ResponseVO.success("경매가 성공적으로 조회 되었습니다.", "data", data), HttpStatus.OK);
         } catch (NumberFormatException e) {
             // 숫자 형식이 잘못된 경우 예외 처리
@@ -388,6 +338,34 @@ public class AuctionService {
         }
     }
 
+    private Map<String, Object> loadAuctionList(AuctionSearchCondition condition, int page, LocalDateTime lastStartTime, Long lastId) {
+        Map<String, Object> data = new HashMap<>();
+        List<DetailAuctionResponseDTO> dtos;
+        if (lastId != null) {
+            dtos = auctionRepository.findNextByCondition(condition, lastStartTime, lastId, AUCTION_PAGE_SIZE);
+            data.put("has_next", dtos.size() == AUCTION_PAGE_SIZE);
+        } else {
+            dtos = auctionRepository.findPageByCondition(condition, page, AUCTION_PAGE_SIZE);
+            long totalAuctions = auctionRepository.countByCondition(condition);
+            data.put("total_pages", (int) Math.ceil((double) totalAuctions / AUCTION_PAGE_SIZE));
+        }
+
+        // 페이지에 나오는 판매자 정보는 한 번에 조회
+        Map<Long, UserResponseDTO> sellers = userService.getUsersByIds(
+                dtos.stream().map(DetailAuctionResponseDTO::getSellerId).toList());
+        for (DetailAuctionResponseDTO dto : dtos) {
+            UserResponseDTO userInfo = sellers.get(dto.getSellerId());
+            if (userInfo == null) {
+                throw new UserNotFoundException("Main-service에서 사용자정보를 찾을 수 없습니다: " + dto.getSellerId());
+            }
+            dto.updateSeller(userInfo.getName(), userInfo.getProfileImage());
+        }
+
+        data.put("auctions", dtos);
+        log.info("dtos : {}", dtos);
+        return data;
+    }
+
 //    // 거북이 정보를 받아와서 경매정보를 DTO로 변환
 //    // 수정, 테스트 필요
 //    public AuctionResponseDTO convertToDTO(Auction auction) {
@@ -407,22 +385,4 @@ public class AuctionService {
 //        return AuctionResponseDTO.from(auction, turtleInfo, userInfo);
 //    }
 
-//    public void processBid(Long auctionId, Long userId, Double newBidAmount) {
-//        redissonLockFacade.updateBidWithLock(auctionId, userId, newBidAmount);
-//    }
-
-    // 서버 재시작시 스케줄링 다시 등록하기
-    @EventListener(ApplicationReadyEvent.class)
-    @Transactional
-    public void scheduleReload(){
-        List<Auction> acutions = auctionRepository.findByAuctionProgress(AuctionProgress.BEFORE_AUCTION);
-
-        for(Auction auction : acutions){
-            if(auction.getStartTime().isAfter(LocalDateTime.now())){
-                Consumer<Long> startAuction = bidService::startAuction;
-                schedulingService.scheduleTask(auction.getId(), startAuction, auction.getStartTime());
-            }
-        }
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// auction_bid_ledger stream 에 쌓인 입찰 기록을 bid_history 테이블로 모아서 적재
+// 입찰 처리 중에는 MySQL 에 쓰지 않고, 이 스레드가 최대 batch-size 개씩, flush-interval 마다 batch insert 한다.
+// stream 은 길이로 자르지 않고 적재, ack 가 끝난 기록만 지우므로 MySQL 이 오래 멈춰도 입찰 기록이 사라지지 않는다.
+// 필드가 빠졌거나 숫자로 읽을 수 없는 기록은 다시 읽어도 실패하므로 auction_bid_ledger_dead stream 으로 옮기고 ack 한다.
+@Slf4j
+@Service
+public class BidHistoryArchiver {
+    private static final String AUCTION_BID_LEDGER_KEY = "auction_bid_ledger";
+    private static final String AUCTION_BID_LEDGER_DEAD_KEY = "auction_bid_ledger_dead";
+    private static final String ARCHIVER_GROUP = "bid-history-archiver";
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO bid_history (auction_id, seq, user_id, bid_amount, bid_time) VALUES (?, ?, ?, ?, ?)";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean running = true;
+    // archiver 스레드에서만 바꾼다.
+    private ReadOffset offset = ReadOffset.from("0");
+
+    @Value("${auction.bid.history.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auction.bid.history.flush-interval-ms:1000}")
+    private long flushIntervalMillis;
+
+    @Value("${eureka.instance.instance-id:auction-service}")
+    private String consumerName;
+
+    public BidHistoryArchiver(RedisTemplate<String, Object> redisTemplate, JdbcTemplate jdbcTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        createGroupIfAbsent();
+        Thread archiver = new Thread(this::run, "bid-history-archiver");
+        archiver.setDaemon(true);
+        archiver.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    void createGroupIfAbsent() {
+        try {
+            redisTemplate.opsForStream().createGroup(AUCTION_BID_LEDGER_KEY, ReadOffset.from("0"), ARCHIVER_GROUP);
+        } catch (RedisSystemException e) {
+            // 이미 그룹이 있는 경우만 무시 (연결 실패, WRONGTYPE 등은 그대로 던진다)
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+            log.info("입찰 기록 consumer group 이 이미 존재합니다: {}", ARCHIVER_GROUP);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            if (!poll()) {
+                sleepQuietly();
+            }
+        }
+    }
+
+    // 한 번 읽어서 적재, 실패하면 false
+    // 받아두고 ack 하지 못한 기록은 이 consumer 의 pending 목록에 남으므로, 처음(재시작, 실패 직후)에는 "0" 부터 읽어
+    // pending 기록을 다 처리한 뒤에 새 기록(">")을 읽는다.
+    boolean poll() {
+        try {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                    Consumer.from(ARCHIVER_GROUP, consumerName),
+                    StreamReadOptions.empty().count(batchSize).block(Duration.ofMillis(flushIntervalMillis)),
+                    StreamOffset.create(AUCTION_BID_LEDGER_KEY, offset));
+
+            if (records == null || records.isEmpty()) {
+                offset = ReadOffset.lastConsumed();
+                return true;
+            }
+            archive(records);
+            return true;
+        } catch (Exception e) {
+            log.error("입찰 기록 적재 중 오류 발생", e);
+            offset = ReadOffset.from("0");
+            return false;
+        }
+    }
+
+    private void archive(List<MapRecord<String, Object, Object>> records) {
+        List<BidRow> rows = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            BidRow row = BidRow.from(record.getValue());
+            if (row != null) {
+                rows.add(row);
+            } else {
+                deadLetter(record);
+            }
+        }
+
+        // (auction_id, seq) 유니크 키로 중복 적재를 무시하므로 ack 전에 죽어도 다시 처리해도 된다.
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+                ps.setLong(1, row.auctionId());
+                ps.setLong(2, row.seq());
+                ps.setLong(3, row.userId());
+                ps.setDouble(4, row.bidAmount());
+                ps.setLong(5, row.bidTime());
+            });
+        }
+
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(AUCTION_BID_LEDGER_KEY, ARCHIVER_GROUP, ids);
+        redisTemplate.opsForStream().delete(AUCTION_BID_LEDGER_KEY, ids);
+        log.info("입찰 기록 {}건 적재 완료", rows.size());
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record) {
+        log.error("적재할 수 없는 입찰 기록: id = {}, fields = {}", record.getId(), record.getValue());
+        Map<Object, Object> fields = new HashMap<>();
+        if (record.getValue() != null) {
+            record.getValue().forEach((key, value) -> {
+                if (key != null && value != null) {
+                    fields.put(key, value);
+                }
+            });
+        }
+        fields.put("ledgerId", record.getId().getValue());
+        redisTemplate.opsForStream().add(AUCTION_BID_LEDGER_DEAD_KEY, fields);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(flushIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private record BidRow(long auctionId, long seq, long userId, double bidAmount, long bidTime) {
+        // 필드가 빠졌거나("null") 숫자가 아니면 null
+        static BidRow from(Map<Object, Object> fields) {
+            if (fields == null) {
+                return null;
+            }
+            try {
+                return new BidRow(
+                        Long.parseLong(String.valueOf(fields.get("auctionId"))),
+                        Long.parseLong(String.valueOf(fields.get("seq"))),
+                        Long.parseLong(String.valueOf(fields.get("userId"))),
+                        Double.parseDouble(String.valueOf(fields.get("bidAmount"))),
+                        Long.parseLong(String.valueOf(fields.get("bidTime"))));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.domain.auction.dto.BidHistoryDTO;
+import com.turtlecoin.auctionservice.domain.auction.entity.BidHistory;
+import com.turtlecoin.auctionservice.domain.auction.repository.BidHistoryRepository;
+import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidHistoryService {
+    private static final String AUCTION_BID_KEY = "auction_bid_";
+    private static final String AUCTION_BID_LOG_KEY = "auction_bid_log_";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final BidHistoryRepository bidHistoryRepository;
+
+    // 경매 입찰 기록 조회 (최신순)
+    // Redis stream 에 기록이 남아있으면 stream 에서, 만료됐으면 MySQL 에 적재된 기록에서 조회한다.
+    public ResponseEntity<?> getBidHistory(Long auctionId, int page, int size) {
+        try {
+            if (page < 0 || size <= 0) {
+                throw new IllegalArgumentException("잘못된 페이지 정보입니다.");
+            }
+
+            Map<String, Object> data = Boolean.TRUE.equals(redisTemplate.hasKey(AUCTION_BID_LOG_KEY + auctionId))
+                    ? getFromLog(auctionId, page, size)
+                    : getFromDatabase(auctionId, page, size);
+
+            return new ResponseEntity<>(ResponseVO.success("입찰 기록이 조회되었습니다.", "data", data), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(ResponseVO.failure("400", e.getMessage()), HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            log.error("입찰 기록 조회 중 오류 발생: auctionId = {}", auctionId, e);
+            return new ResponseEntity<>(ResponseVO.failure("500", "입찰 기록 조회 중 서버 에러가 발생했습니다."), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Map<String, Object> getFromLog(Long auctionId, int page, int size) {
+        // stream id 가 0-{순번} 이므로 마지막 순번으로 페이지 범위를 계산
+        Object lastSeqObj = redisTemplate.opsForHash().get(AUCTION_BID_KEY + auctionId, "seq");
+        long lastSeq = lastSeqObj == null ? 0 : Long.parseLong(lastSeqObj.toString());
+
+        long to = lastSeq - (long) page * size;
+        long from = Math.max(1, to - size + 1);
+
+        List<BidHistoryDTO> bids = new ArrayList<>();
+        if (to >= 1) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                    .reverseRange(AUCTION_BID_LOG_KEY + auctionId, Range.closed("0-" + from, "0-" + to));
+            if (records != null) {
+                records.forEach(record -> bids.add(BidHistoryDTO.from(auctionId, record.getValue())));
+            }
+        }
+
+        return toPage(bids, (int) Math.ceil((double) lastSeq / size));
+    }
+
+    private Map<String, Object> getFromDatabase(Long auctionId, int page, int size) {
+        Page<BidHistory> histories = bidHistoryRepository.findByAuctionIdOrderBySeqDesc(auctionId, PageRequest.of(page, size));
+        List<BidHistoryDTO> bids = histories.stream().map(BidHistoryDTO::from).toList();
+        return toPage(bids, histories.getTotalPages());
+    }
+
+    private Map<String, Object> toPage(List<BidHistoryDTO> bids, int totalPages) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("bids", bids);
+        data.put("total_pages", totalPages);
+        return data;
+    }
+}
@@ -1,10 +1,16 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
+import com.turtlecoin.auctionservice.domain.auction.broadcast.BidBroadcastCoalescer;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionResponseCache;
+import com.turtlecoin.auctionservice.domain.auction.deadline.AuctionClock;
+import com.turtlecoin.auctionservice.domain.auction.deadline.AuctionDeadlineScheduler;
+import com.turtlecoin.auctionservice.domain.auction.dto.BidResultDTO;
 import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuction;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
 import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
-import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
 import com.turtlecoin.auctionservice.feign.service.UserService;
 import com.turtlecoin.auctionservice.global.exception.*;
 import com.turtlecoin.auctionservice.global.response.ResponseVO;
@@ -12,11 +18,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,160 +40,114 @@ public class BidService {
     private static final String AUCTION_BID_KEY = "auction_bid_";
     private final UserService userService;
     private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    private static final String AUCTION_BID_LOG_KEY = "auction_bid_log_";
+    private static final String AUCTION_BID_LEDGER_KEY = "auction_bid_ledger";
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
     private final SseService sseService;
+    private final RedisScript<List> bidScript;
+    private final AuctionDeadlineScheduler auctionDeadlineScheduler;
+    private final BidBroadcastCoalescer bidBroadcastCoalescer;
+    private final AuctionClock auctionClock;
+    private final AuctionResponseCache auctionResponseCache;
+    private final LiveAuctionRegistry liveAuctionRegistry;
+    private static final long BID_EXTEND_MILLIS = (long) (30.1*1000); // 입찰 시 TTL 30초 재설정
 
     // 경매 시작 로직... 그런데 어떻게 경매가 시작된줄 알 수 있을까?
     @Transactional
     public void startAuction(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다: " + auctionId));
-
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
+        startAuctions(List.of(auctionId));
+    }
 
-        redisTemplate.opsForValue().set(key, "ready");
+    // 같은 시각에 시작하는 경매를 한 번에 시작
+    // 경매 수와 상관없이 조회 1번, 상태 변경 1번, Redis 파이프라인 1번으로 처리하고 시작된 경매 id 를 반환한다.
+    @Transactional
+    public List<Long> startAuctions(Collection<Long> auctionIds) {
+        // 이미 시작된 경매는 제외 (lease 만료로 다른 서버가 다시 실행한 경우)
+        List<Long> startIds = auctionRepository.findIdsByProgress(auctionIds, AuctionProgress.BEFORE_AUCTION);
+        if (startIds.size() < auctionIds.size()) {
+            log.info("이미 시작됐거나 없는 경매 제외: 요청 = {}, 시작 = {}", auctionIds.size(), startIds.size());
+        }
+        if (startIds.isEmpty()) {
+            return startIds;
+        }
 
-        redisTemplate.expire(key, (long) (30.1*1000), TimeUnit.MILLISECONDS); // TTL 30초 설정
+        auctionRepository.updateProgressIfMatches(startIds, AuctionProgress.BEFORE_AUCTION, AuctionProgress.DURING_AUCTION);
+        // 마감 시각 등록 (TTL 30초)
+        auctionDeadlineScheduler.registerAll(startIds, BID_EXTEND_MILLIS);
 
-        Long remainingTime = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
-        auction.updateStatus(AuctionProgress.DURING_AUCTION);
+        auctionResponseCache.bumpDetails(startIds);
+        auctionResponseCache.bumpList();
         // sse로 경매 시작을 알림
-        sseService.notify(auction.getId(), "Auction Started");
+        startIds.forEach(auctionId -> sseService.notify(auctionId, "Auction Started"));
+        return startIds;
     }
 
     // 입찰 가격 갱신
-    @Transactional
+    // 검증, 입찰 정보 갱신, 마감시간 연장은 bid.lua 스크립트로 한 번에 원자적으로 처리하므로 락이 필요 없다.
+    // 경매 정보는 LiveAuctionRegistry 에서 읽으므로 DB 트랜잭션이 필요 없다.
     public void processBidWithRedis(Long auctionId, Long userId, Double bidAmount)
             throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException, AuctionAlreadyFinishedException, BidNotValidException {
-        // 1. 경매 시작 및 상태 확인
-//        startAuctionIfNotStarted(auctionId);
-
-        // 2. 현재 경매와 입찰 정보를 확인하고 유효성을 검증
-        Auction auction = getAuction(auctionId);
-
-        if (auction.getUserId().equals(userId)) {
-            throw new BidNotValidException("자신의 경매에 입찰할 수 없습니다");
-        }
-
-        Long currentUserId = getCurrentBidUserId(auctionId);
-        // 최신 입찰가 가져오기
-        Double currentBid = getCurrentBidAmount(auctionId, auction);
-
-//        // 3. 입찰 검증 로직
-        validateBid(auctionId, userId, bidAmount, currentUserId, currentBid);
-
-        // 4. 입찰 정보 갱신
-        Double newBidAmount = updateBidInfo(auctionId, userId, bidAmount);
-        log.info("입찰 정보 갱신 완료");
-        // 5. 클라이언트에게 최신 입찰 정보 전송
-        notifyClientWithBidInfo(auctionId, userId, bidAmount, newBidAmount);
-        log.info("클라이언트에게 입찰 정보 전송 완료");
-    }
-
-    private Auction getAuction(Long auctionId) {
-        return auctionRepository.findById(auctionId)
+        // 1. 현재 경매 정보 확인
+        LiveAuction auction = liveAuctionRegistry.get(auctionId)
                 .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다."));
-    }
 
-    private void startAuctionIfNotStarted(Long auctionId) {
-        Auction auction = getAuction(auctionId);
-        if (auction.getAuctionProgress() == AuctionProgress.BEFORE_AUCTION) {
-            log.info("경매 강제로 시작시키기");
-            startAuction(auctionId);
-            return;
-        }
-        log.info("경매 이미 진행중");
-    }
+        // 2. 검증 후 입찰 정보 갱신
+        Double newBidAmount = bidAmount + calculateBidIncrement(bidAmount);
+        BidResultDTO result = executeBid(auctionId, auction.getSellerId(), userId, bidAmount, newBidAmount);
 
-    private Long getCurrentBidUserId(Long auctionId) {
-        String redisKey = AUCTION_BID_KEY + auctionId;
-        Map<Object, Object> currentBidData = redisTemplate.opsForHash().entries(redisKey);
-        if (!currentBidData.isEmpty()) {
-            return Long.parseLong(currentBidData.get("userId").toString());
-        }
-        return null;  // 입찰자가 없으면 null 반환
-    }
+        // 3. 거절 사유에 따라 예외 처리
+        validateBidResult(userId, bidAmount, result);
+        // 연장된 마감 시각으로 다시 예약
+        auctionDeadlineScheduler.schedule(auctionId, result.getRemainingTime());
+        auctionClock.updateEndTime(auctionId, result.getEndTime());
+        log.info("입찰 정보 갱신 완료");
 
-    private Double getCurrentBidAmount(Long auctionId, Auction auction) {
-        String redisKey = AUCTION_BID_KEY + auctionId;
-        Map<Object, Object> currentBidData = redisTemplate.opsForHash().entries(redisKey);
-        Double currentBid = 0D; // 기본값은 0원
-        if (!currentBidData.isEmpty()) {
-            return parseBidAmount(currentBidData.get("bidAmount"));
-        }
-        return currentBid;
+        // 4. 클라이언트에게 최신 입찰 정보 전송
+        notifyClientWithBidInfo(auctionId, userId, bidAmount, newBidAmount, result.getEndTime(), result.getSeq());
+        log.info("클라이언트에게 입찰 정보 전송 완료");
     }
 
-    private Double parseBidAmount(Object bidAmountObj) {
-        if (bidAmountObj instanceof String) {
-            return Double.parseDouble((String) bidAmountObj);
-        } else if (bidAmountObj instanceof Double) {
-            return (Double) bidAmountObj;
-        }
-        throw new IllegalArgumentException("Invalid bid amount type");
+    private BidResultDTO executeBid(Long auctionId, Long sellerId, Long userId, Double bidAmount, Double newBidAmount) {
+        List<String> keys = List.of(AUCTION_BID_KEY + auctionId, AUCTION_END_KEY_PREFIX + auctionId,
+                AUCTION_BID_LOG_KEY + auctionId, AUCTION_BID_LEDGER_KEY, AUCTION_DEADLINES_KEY, AuctionClock.AUCTION_END_TIMES_KEY,
+                AuctionResponseCache.AUCTION_VERSION_KEY_PREFIX + auctionId);
+        List<?> scriptResult = redisTemplate.execute(bidScript, keys,
+                userId.toString(), bidAmount.toString(), newBidAmount.toString(), sellerId.toString(),
+                String.valueOf(BID_EXTEND_MILLIS), auctionId.toString(),
+                String.valueOf(AuctionResponseCache.VERSION_TTL_MILLIS));
+        log.info("입찰 스크립트 결과: auctionId = {}, result = {}", auctionId, scriptResult);
+        return BidResultDTO.from(scriptResult);
     }
 
-    private void validateBid(Long auctionId, Long userId, Double bidAmount, Long currentUserId, Double currentBid)
-        throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException{
-        // 경매 남은시간 확인
-        log.info("경매 남은시간 검증 후 에러 던져주는 로직");
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
-        Long remainingTime = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
-        log.info("redis key : {}remaining time : {}", key, remainingTime);
-        if (currentUserId != null && currentUserId.equals(userId)) {
-            String destination = "/user/" + userId + "/queue/auction";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.failure("Bid", "400", "자신의 입찰에 재입찰 할 수 없습니다."));
-            throw new SameUserBidException("자신의 입찰에 재입찰할 수 없습니다: userId = " + userId);
-        }
-
-        if (bidAmount <= currentBid) {
-            String destination = "/user/" + userId + "/queue/auction";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.failure("Bid", "400", "현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다."));
-            throw new WrongBidAmountException("현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다: currentBid = " +
-                    currentBid + ", bidAmount = " + bidAmount);
-        }
-
-        // 키가 만료됐으면
-        if (remainingTime < 0) {
-            String destination = "/user/" + userId + "/queue/auction";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.failure("Bid", "422", "입찰 가능한 시간이 아닙니다."));
-            throw new AuctionTimeNotValidException("입찰 가능한 시간이 아닙니다.");
-        } else {
-            // 입찰시간 갱신
-            redisTemplate.expire(key, (long) (30.1*1000), TimeUnit.MILLISECONDS); // TTL 30초 재설정
+    private void validateBidResult(Long userId, Double bidAmount, BidResultDTO result)
+            throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException, BidNotValidException {
+        String destination = "/user/" + userId + "/queue/auction";
+        switch (result.getStatus()) {
+            case ACCEPTED:
+                return;
+            case OWN_AUCTION:
+                throw new BidNotValidException("자신의 경매에 입찰할 수 없습니다");
+            case SAME_USER:
+                messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                        ResponseVO.failure("Bid", "400", "자신의 입찰에 재입찰 할 수 없습니다."));
+                throw new SameUserBidException("자신의 입찰에 재입찰할 수 없습니다: userId = " + userId);
+            case TOO_LOW:
+                messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                        ResponseVO.failure("Bid", "400", "현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다."));
+                throw new WrongBidAmountException("현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다: currentBid = " +
+                        result.getCurrentBid() + ", bidAmount = " + bidAmount);
+            case EXPIRED:
+            default:
+                messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                        ResponseVO.failure("Bid", "422", "입찰 가능한 시간이 아닙니다."));
+                throw new AuctionTimeNotValidException("입찰 가능한 시간이 아닙니다.");
         }
     }
 
-    private Double updateBidInfo(Long auctionId, Long userId, Double bidAmount) {
-        log.info("입찰 갱신 로직 진입");
-        Double bidIncrement = calculateBidIncrement(bidAmount);
-        Double newBidAmount = bidAmount + bidIncrement;
-
-        String redisKey = AUCTION_BID_KEY + auctionId;
-        Map<String, Object> bidData = new HashMap<>();
-        bidData.put("userId", userId.toString());
-        bidData.put("remainingTime", redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS).toString());
-        bidData.put("bidAmount", bidAmount.toString());
-        bidData.put("nextBid", newBidAmount.toString());
-
-        redisTemplate.opsForHash().putAll(redisKey, bidData);
-
-        // 마감시간 갱신하는 로직 검증할 때 갱신하도록 변경
-//        resetAuctionEndTime(auctionId);
-        log.info("경매 마감 시간 갱신");
-
-        return newBidAmount;
-    }
-
-    private void notifyClientWithBidInfo(Long auctionId, Long userId, Double bidAmount, Double newBidAmount) {
+    private void notifyClientWithBidInfo(Long auctionId, Long userId, Double bidAmount, Double newBidAmount, Long endTime, Long seq) {
         String userNickname = userService.getUserNicknameById(userId);
         log.info("입찰한 userNickname: {}", userNickname);
-
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
-
-        Double remainingTime = (double) redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
-        log.info("remaining time : {}", remainingTime);
+        log.info("end time : {}", endTime);
 
         // 전송할 메시지에 담긴 bidRecord
         BidMessage bidRecord = BidMessage.builder()
@@ -194,13 +156,23 @@ public class BidService {
                 .auctionId(auctionId)
                 .bidAmount(bidAmount)
                 .nextBid(newBidAmount)
-                .remainingTime(remainingTime)
+                .endTime(endTime)
+                .seq(seq)
                 .build();
 
-        notifyClient(auctionId, bidRecord, false, null);
+        bidBroadcastCoalescer.publish(auctionId, bidRecord, message -> notifyClient(auctionId, stampServerTime(message), false, null));
         log.info("클라이언트들에게 전송 완료");
     }
 
+    // 실제 전송 시점의 서버 시각과 남은 시간을 채움
+    private BidMessage stampServerTime(BidMessage bidMessage) {
+        long serverTime = auctionClock.now();
+        return bidMessage.toBuilder()
+                .serverTime(serverTime)
+                .remainingTime((double) Math.max(bidMessage.getEndTime() - serverTime, 0))
+                .build();
+    }
+
 //    private void updateAuctionEndTime(Long auctionId, LocalDateTime localDateTime) {
 //        Auction auction = auctionRepository.findById(auctionId)
 //                .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다."));
@@ -295,12 +267,7 @@ public class BidService {
 //    }
 
     public Double getAuctionRemainingTime (Long auctionId) {
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
-        Long remainingTime = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
-
-        if (remainingTime == null || remainingTime < 0) {
-            return null;
-        }
-        return remainingTime.doubleValue();
+        Long remainingTime = auctionClock.getRemainingTime(auctionId);
+        return remainingTime != null ? remainingTime.doubleValue() : null;
     }
 }
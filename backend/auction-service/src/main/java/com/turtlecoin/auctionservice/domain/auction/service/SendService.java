@@ -1,9 +1,14 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
+import com.turtlecoin.auctionservice.domain.auction.broadcast.BidBroadcastCoalescer;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionResponseCache;
+import com.turtlecoin.auctionservice.domain.auction.deadline.AuctionClock;
 import com.turtlecoin.auctionservice.domain.auction.dto.AuctionResultDTO;
 import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.sequencer.BidSequencer;
 import com.turtlecoin.auctionservice.feign.service.UserService;
 import com.turtlecoin.auctionservice.global.exception.AuctionNotFoundException;
 import com.turtlecoin.auctionservice.global.response.ResponseVO;
@@ -15,9 +20,12 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -27,8 +35,15 @@ public class SendService {
     private final AuctionRepository auctionRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private static final String AUCTION_BID_KEY_PREFIX = "auction_bid_";
+    private static final String AUCTION_BID_LOG_KEY_PREFIX = "auction_bid_log_";
+    private static final long BID_LOG_RETENTION_HOURS = 24;
     private final RedisTemplate redisTemplate;
     private final UserService userService;
+    private final BidSequencer bidSequencer;
+    private final BidBroadcastCoalescer bidBroadcastCoalescer;
+    private final AuctionClock auctionClock;
+    private final AuctionResponseCache auctionResponseCache;
+    private final LiveAuctionRegistry liveAuctionRegistry;
 
     @Value("${spring.rabbitmq.exchange}")
     private String auctionResultExchange;
@@ -48,26 +63,32 @@ public class SendService {
     }
 
     // 경매 종료 알림, DB저장 로직
+    // 진행 중(DURING_AUCTION)인 경매만 종료 상태로 바꾸므로 여러 서버에서 호출돼도 한 번만 종료 처리된다.
+    // 종료 메시지와 결과 전송은 커밋 후에 한다. (커밋이 실패하면 lease 반납 후 다시 종료 처리되므로 그 전에 보내면 두 번 나간다)
     @Transactional
     public void endAuction(Long auctionId) {
-        ResponseVO<Object> response;
-        Auction auction = auctionRepository.findById(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다"));
         String redisBidKey = AUCTION_BID_KEY_PREFIX + auctionId;
         Map<Object, Object> bidData = redisTemplate.opsForHash().entries(redisBidKey);
         Map<String, Object> data = new HashMap<>();
+
+        AuctionProgress result = bidData.isEmpty() ? AuctionProgress.NO_BID : AuctionProgress.SUCCESSFUL_BID;
+        if (auctionRepository.updateProgressIfMatches(auctionId, AuctionProgress.DURING_AUCTION, result) == 0) {
+            log.info("이미 종료 처리된 경매입니다: auctionId = {}", auctionId);
+            return;
+        }
+        Auction auction = auctionRepository.findById(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다"));
+        auctionResponseCache.bumpDetail(auctionId);
+        auctionResponseCache.bumpList();
+
         if (bidData.isEmpty()) {
             // 유찰 시키기
-            auction.updateStatus(AuctionProgress.NO_BID);
-
 //            AuctionResultDTO auctionResultDTO = createAuctionResultDTO(auction, null, null);
             data.put("bidAmount", 0);
             data.put("nickname", null);
             data.put("message", "경매가 유찰됐습니다.");
 
-            response = ResponseVO.bidSuccess("End","205",data);
-            messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
-            // rabbitmq로 보내기
-//            sendMessage(auctionResultDTO);
+            ResponseVO<Object> response = ResponseVO.bidSuccess("End","205",data);
+            afterCommit(() -> publishEnd(auctionId, response, null));
             log.info("해당 경매에 입찰 기록이 없습니다: auctionId = {}", auctionId);
             return;
         }
@@ -79,24 +100,50 @@ public class SendService {
 
         AuctionResultDTO auctionResultDTO = createAuctionResultDTO(auction, winningBid, winningUserId);
 
-
-
         data.put("bidAmount", winningBid);
         data.put("nickname", nickname);
         data.put("message", "경매가 낙찰됐습니다.");
 
         // 가격도 같이 보내주기
-        response = ResponseVO.bidSuccess("End","201",data);
+        ResponseVO<Object> response = ResponseVO.bidSuccess("End","201",data);
 
-        auction.updateStatus(AuctionProgress.SUCCESSFUL_BID);
         auction.updateAfterAuction(winningUserId, winningBid);
 
-        messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
-        // rabbitmq로 보내기
-        sendMessage(auctionResultDTO);
+        afterCommit(() -> publishEnd(auctionId, response, auctionResultDTO));
         log.info("경매 종료 처리 완료: auctionId = {}", auctionId);
     }
 
+    // 종료가 커밋된 경매의 로컬 상태 정리, 종료 메시지와 (낙찰 시) 결과 전송
+    private void publishEnd(Long auctionId, ResponseVO<Object> response, AuctionResultDTO auctionResultDTO) {
+        // 종료된 경매의 입찰 큐 정리
+        bidSequencer.remove(auctionId);
+        // 묶여 있던 마지막 입찰 정보를 종료 메시지보다 먼저 전송
+        bidBroadcastCoalescer.remove(auctionId);
+        auctionClock.remove(auctionId);
+        liveAuctionRegistry.evict(auctionId);
+        // 입찰 기록 stream 은 MySQL 적재 후 일정 시간 뒤 만료
+        redisTemplate.expire(AUCTION_BID_LOG_KEY_PREFIX + auctionId, BID_LOG_RETENTION_HOURS, TimeUnit.HOURS);
+
+        messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
+        if (auctionResultDTO != null) {
+            // rabbitmq로 보내기
+            sendMessage(auctionResultDTO);
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
 
     @Transactional
     public AuctionResultDTO createAuctionResultDTO(Auction auction, Double winningBid, Long buyerId) {
@@ -107,6 +154,7 @@ public class SendService {
             String firstImageAddress = auction.getAuctionPhotos().get(0).getImageUrl();
 
             return AuctionResultDTO.builder()
+                    .auctionId(auction.getId())
                     .title(auction.getTitle())
                     .content(auction.getContent())
                     .winningBid(winningBid)
@@ -121,6 +169,7 @@ public class SendService {
         } else {
 
             return AuctionResultDTO.builder()
+                    .auctionId(auction.getId())
                     .title(auction.getTitle())
                     .content(auction.getContent())
                     .winningBid(winningBid)
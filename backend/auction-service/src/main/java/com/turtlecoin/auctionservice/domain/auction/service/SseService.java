@@ -1,18 +1,20 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turtlecoin.auctionservice.domain.auction.broadcast.SseBroadcaster;
+import com.turtlecoin.auctionservice.domain.auction.broadcast.SseEventBus;
+import com.turtlecoin.auctionservice.domain.auction.broadcast.SseStreamHub;
 import com.turtlecoin.auctionservice.domain.auction.repository.EmitterRepository;
-import com.turtlecoin.auctionservice.domain.global.internal.EmitterMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import reactor.core.publisher.Flux;
+
 import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -20,39 +22,29 @@ import java.util.concurrent.CompletableFuture;
 public class SseService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
     private final EmitterRepository emitterRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper(); // JSON 변환용 ObjectMapper
+    private final SseBroadcaster sseBroadcaster;
+    private final SseStreamHub sseStreamHub;
+    private final SseEventBus sseEventBus;
 
-    public SseEmitter subscribe(Long auctionId) throws IOException {
+    // lastEventId : 재연결 시 브라우저가 보내는 Last-Event-ID, 그 이후 이벤트를 먼저 보낸다.
+    public SseEmitter subscribe(Long auctionId, String lastEventId) throws IOException {
         SseEmitter emitter = createEmitter(auctionId);
         log.info(auctionId + "에 대하여 SSE 연결 완료");
+        sseBroadcaster.replay(emitter, sseEventBus.replay(auctionId, lastEventId));
 //        String jsonData = objectMapper.writeValueAsString("SSE Connected");
 //        emitter.send(SseEmitter.event().id(String.valueOf(auctionId)).name("sse").data(jsonData));
         return emitter;
     }
 
-    public void notify(Long auctionId, Object event) {
-        sendToClient(auctionId, event);
+    // SseEmitter 대신 Flux 로 구독 (servlet 스레드를 잡지 않음)
+    public Flux<ServerSentEvent<String>> stream(Long auctionId, String lastEventId) {
+        log.info(auctionId + "에 대하여 SSE 스트림 연결");
+        return sseStreamHub.stream(auctionId, () -> sseEventBus.replay(auctionId, lastEventId));
     }
 
-    private void sendToClient(Long id, Object data) {
-        // id 에 연결된 모든 SSE에게 메세지 전송
-        List<EmitterMapper> mappers = emitterRepository.get(id);
-        for(EmitterMapper mapper : mappers) {
-            SseEmitter emitter = mapper.getEmitter();
-
-            if (emitter != null) {
-                CompletableFuture.runAsync(() -> {
-                    try {
-                       String jsonData = objectMapper.writeValueAsString("SSE Connected");
-                       emitter.send(SseEmitter.event().id(String.valueOf(id)).name("sse").data(jsonData));
-                    } catch (Exception e) {
-                        // 유효성을 검사하여 삭제 및 종료
-                        emitter.completeWithError(e);
-                        emitterRepository.deleteByIdAndUUID(id, mapper.getUuid());
-                    }
-                });
-            }
-        }
+    // 전송은 SseBroadcaster 가 비동기로 처리한다.
+    public void notify(Long auctionId, Object event) {
+        sseBroadcaster.broadcast(auctionId, event);
     }
 
     private SseEmitter createEmitter(Long id) {
@@ -1,13 +1,75 @@
 package com.turtlecoin.auctionservice.domain.global.internal;
 
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-@AllArgsConstructor
+// 보낼 이벤트를 구독자별 큐에 쌓고 한 번에 한 스레드만 비운다.
+// 동시에 여러 이벤트(heartbeat, 연속 입찰)가 와도 순서대로 쓰고, 큐가 가득 찰 만큼 밀린 구독자만 닫는다.
 @Getter
 public class EmitterMapper{
 	String uuid;
 	SseEmitter emitter;
-}
\ No newline at end of file
+	private final BlockingQueue<Set<DataWithMediaType>> pending;
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private volatile boolean closed;
+
+	public EmitterMapper(String uuid, SseEmitter emitter, int bufferSize) {
+		this.uuid = uuid;
+		this.emitter = emitter;
+		this.pending = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	// 큐가 가득 차서 넣지 못하면 false
+	public boolean offer(Set<DataWithMediaType> event) {
+		return !closed && pending.offer(event);
+	}
+
+	// 비우는 스레드가 없으면 지금 스레드에서 비운다. 있으면 그 스레드가 이어서 보낸다.
+	// 전송에 실패하면 false
+	public boolean drain() {
+		while (draining.compareAndSet(false, true)) {
+			try {
+				Set<DataWithMediaType> event;
+				while (!closed && (event = pending.poll()) != null) {
+					emitter.send(event);
+				}
+			} catch (Exception e) {
+				closed = true;
+			} finally {
+				draining.set(false);
+			}
+
+			if (closed) {
+				pending.clear();
+				complete();
+				return false;
+			}
+			// 비우는 동안 새로 들어온 이벤트가 없으면 끝
+			if (pending.isEmpty()) {
+				return true;
+			}
+		}
+		return !closed;
+	}
+
+	// 쓰는 중인 스레드가 있으면 그 스레드가 쓰기를 마친 뒤 닫는다. (쓰는 중에 complete 하면 같이 막힘)
+	public void close() {
+		closed = true;
+		drain();
+	}
+
+	private void complete() {
+		try {
+			emitter.complete();
+		} catch (Exception e) {
+			// 이미 닫힌 연결
+		}
+	}
+}
@@ -0,0 +1,5 @@
+package com.turtlecoin.auctionservice.domain.s3.dto;
+
+// 원본 이미지로 만든 썸네일/중간 크기 이미지 주소
+public record ImageVariants(String thumbnailAddress, String mediumAddress) {
+}
@@ -4,27 +4,39 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+// 업로드는 임시 파일이나 byte[] 복사 없이 MultipartFile 의 InputStream 을 그대로 S3 로 보낸다.
+// 여러 장은 imageUploadExecutor 에서 동시에 올리고, 동시에 올리는 수는 스레드 풀 크기로 제한된다.
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @PropertySource("classpath:s3.properties")
 public class ImageUploadService {
 	private final AmazonS3 amazonS3;
+	private final ThreadPoolTaskExecutor imageUploadExecutor;
+
+	public ImageUploadService(AmazonS3 amazonS3,
+		@Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor) {
+		this.amazonS3 = amazonS3;
+		this.imageUploadExecutor = imageUploadExecutor;
+	}
 
 	// s3.properties 파일에서 받아 온 S3 버킷 이름
 	@Value("${cloud.aws.s3.bucket}")
@@ -35,23 +47,16 @@ public class ImageUploadService {
 
 	// MultipartFile을 받아 S3에 업로드하는 메서드
 	public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-		// MultipartFile을 File 객체로 변환
-		File uploadFile = convert(multipartFile)
-			.orElseThrow(() -> new IllegalArgumentException("MultipartFile -> File 변환 실패"));
-		// 변환된 파일을 S3에 업로드하고 URL을 반환
-		return upload(uploadFile, dirName);
-	}
-
-	// File 객체를 S3에 업로드하고 URL을 반환하는 메서드
-	private String upload(File uploadFile, String dirName) {
-		// 업로드할 파일의 경로 설정
-		String fileName = dirName + "/" + uploadFile.getName();
-		// S3에 파일 업로드
-		String uploadImageUrl = putS3(uploadFile, fileName);
-		// 로컬 서버에서 임시 파일 삭제
-		removeNewFile(uploadFile);
-		// 업로드된 파일의 URL 반환
-		return uploadImageUrl;
+		// 업로드할 파일의 경로 설정 -> UUID_원본파일이름 (공백은 _로 변환)
+		String fileName = dirName + "/" + createFileName(multipartFile.getOriginalFilename());
+
+		// 크기를 알려줘야 SDK가 스트림 전체를 메모리에 올리지 않는다.
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(multipartFile.getSize());
+		metadata.setContentType(multipartFile.getContentType());
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			return putS3(inputStream, metadata, fileName);
+		}
 	}
 
 	private String extractKeyNameFromUrl(String imageUrl) {
@@ -59,37 +64,42 @@ public class ImageUploadService {
 		// 예시: https://your-bucket.s3.amazonaws.com/path/to/image.jpg
 		return imageUrl.replace("https://" + bucket + ".s3.amazonaws.com/", "");
 	}
+	// 여러 이미지를 동시에 업로드하고 요청 순서대로 URL 반환
+	// 하나라도 실패하면 이미 올라간 이미지는 지우고 예외를 던진다.
 	public List<String> uploadMultiple(List<MultipartFile> multipartFiles, String dir) throws IOException {
-		List<String> uploadedImageUrls = new ArrayList<>();
-		for (MultipartFile multipartFile : multipartFiles) {
-			String imageUrl = upload(multipartFile, dir);
-			uploadedImageUrls.add(imageUrl);
+		List<CompletableFuture<String>> uploads = multipartFiles.stream()
+			.map(multipartFile -> CompletableFuture.supplyAsync(() -> uploadUnchecked(multipartFile, dir), imageUploadExecutor))
+			.toList();
+		try {
+			CompletableFuture.allOf(uploads.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			uploads.stream()
+				.filter(upload -> !upload.isCompletedExceptionally())
+				.map(CompletableFuture::join)
+				.forEach(this::deleteS3);
+			Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+			log.warn("이미지 업로드 실패: {}", cause.getMessage());
+			throw new IOException("이미지 업로드에 실패했습니다.", cause);
 		}
-		return uploadedImageUrls;
+		return uploads.stream().map(CompletableFuture::join).toList();
 	}
 
-	// 로컬 서버에서 임시 파일을 삭제하는 메서드
-	private void removeNewFile(File uploadFile) {
-		uploadFile.delete();
+	private String uploadUnchecked(MultipartFile multipartFile, String dir) {
+		try {
+			return upload(multipartFile, dir);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
 	}
 
 	// 파일을 S3에 업로드하고 URL을 반환하는 메서드
-	private String putS3(File uploadFile, String fileName) {
-		// S3에 파일 업로드 요청
-		// amazonS3.putObject(new PutObjectRequest(bucket, fileName, uploadFile)
-		// 	.withCannedAcl(CannedAccessControlList.PublicRead));
-
-		// CloudFront를 적용한 경우
+	private String putS3(InputStream inputStream, ObjectMetadata metadata, String fileName) {
 		// S3에 파일 업로드 요청
-		amazonS3.putObject(new PutObjectRequest(bucket, fileName, uploadFile)
+		amazonS3.putObject(new PutObjectRequest(bucket, fileName, inputStream, metadata)
 			.withCannedAcl(CannedAccessControlList.PublicRead));
 
 		// CloudFront URL 반환
 		return cloudFrontUrl + fileName;
-
-
-		// 업로드된 파일의 URL 반환
-		//return amazonS3.getUrl(bucket, fileName).toString();
 	}
 
 	// S3에서 파일 삭제하는 메서드
@@ -112,25 +122,10 @@ public class ImageUploadService {
 	}
 
 
-	// MultipartFile을 File 객체로 변환하는 메서드
-	private Optional<File> convert(MultipartFile file) throws IOException {
-		// 원본 파일 이름 가져옴
-		String originalFilename = file.getOriginalFilename();
-		// UUID 생성
-		String uuid = UUID.randomUUID().toString();
-		// UUID와 원본 파일 이름을 조합하여 고유한 파일 이름 생성 -> 공백은 _로 변환
-		String uuidFileName = uuid + "_" + originalFilename.replaceAll("\\s", "_");
-
-		// 변환 할 파일 객체 생성
-		File convertFile = new File(uuidFileName);
-		// 새로운 파일 생성 시도
-		if (convertFile.createNewFile()) {
-			try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-				fos.write(file.getBytes());
-			}
-			return Optional.of(convertFile);
-		}
-		return Optional.empty();
+	// UUID와 원본 파일 이름을 조합하여 고유한 파일 이름 생성 -> 공백은 _로 변환
+	private String createFileName(String originalFilename) {
+		String name = originalFilename != null ? originalFilename.replaceAll("\\s", "_") : "image";
+		return UUID.randomUUID() + "_" + name;
 	}
 
 	// S3 URL에서 파일 경로를 추출하는 메서드
@@ -0,0 +1,58 @@
+package com.turtlecoin.auctionservice.domain.s3.service;
+
+import com.turtlecoin.auctionservice.domain.s3.dto.ImageVariants;
+import com.turtlecoin.auctionservice.feign.MainClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+// 업로드된 경매 이미지의 썸네일/중간 크기 이미지 생성을 main-service 에 요청한다. (변환은 main-service 에서만 한다)
+// 요청 스레드가 아니라 imageVariantExecutor 에서 처리하고, 실패하면 원본을 그대로 쓰면 되므로 로그만 남긴다.
+@Slf4j
+@Service
+public class ImageVariantService {
+	private final MainClient mainClient;
+	private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+	public ImageVariantService(MainClient mainClient,
+		@Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+		this.mainClient = mainClient;
+		this.imageVariantExecutor = imageVariantExecutor;
+	}
+
+	// 트랜잭션 안이면 커밋 후에, 아니면 바로 변환 요청을 넘긴다.
+	// 변환이 끝난 이미지마다 onCreated(원본 주소, 변환 이미지 주소)를 호출한다.
+	public void generateAfterCommit(List<String> imageUrls, BiConsumer<String, ImageVariants> onCreated) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submit(imageUrls, onCreated);
+				}
+			});
+			return;
+		}
+		submit(imageUrls, onCreated);
+	}
+
+	private void submit(List<String> imageUrls, BiConsumer<String, ImageVariants> onCreated) {
+		try {
+			imageVariantExecutor.execute(() -> {
+				try {
+					mainClient.createImageVariants(imageUrls).forEach(onCreated);
+				} catch (Exception e) {
+					log.warn("이미지 변환 요청 실패: {}", imageUrls, e);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			log.warn("이미지 변환 작업이 밀려 있어 건너뜀: {}", imageUrls);
+		}
+	}
+}
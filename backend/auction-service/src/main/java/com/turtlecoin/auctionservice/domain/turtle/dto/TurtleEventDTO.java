@@ -0,0 +1,22 @@
+package com.turtlecoin.auctionservice.domain.turtle.dto;
+
+import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
+import lombok.*;
+
+// main-service 에서 발행하는 거북이 변경 정보 (turtle.event.exchange)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TurtleEventDTO {
+    private Long turtleId;
+    private Gender gender;
+    private int weight;
+    private String scientificName;
+    private Long userId;
+    private boolean dead;
+    // CREATED, TRANSFERRED, DIED, SNAPSHOT
+    private String eventType;
+    // 이벤트 발생 시각 (epoch ms)
+    private Long occurredAt;
+}
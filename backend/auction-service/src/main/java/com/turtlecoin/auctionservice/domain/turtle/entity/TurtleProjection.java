@@ -0,0 +1,66 @@
+package com.turtlecoin.auctionservice.domain.turtle.entity;
+
+import com.turtlecoin.auctionservice.domain.turtle.dto.TurtleEventDTO;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 경매 목록 필터링에 필요한 거북이 정보만 담은 main-service 거북이의 복사본
+// main-service 의 거북이 이벤트로 갱신된다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "turtle_projection", indexes = @Index(name = "idx_turtle_projection_gender_weight", columnList = "gender, weight"))
+public class TurtleProjection {
+    // main-service 의 거북이 id
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Gender gender;
+
+    @Column(nullable = false)
+    private int weight;
+
+    @Column(name = "scientific_name")
+    private String scientificName;
+
+    // 소유자
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private boolean dead;
+
+    // 마지막으로 반영한 이벤트 시각 (epoch ms)
+    @Column(nullable = false)
+    private Long occurredAt;
+
+    public static TurtleProjection from(TurtleEventDTO event) {
+        return TurtleProjection.builder()
+                .id(event.getTurtleId())
+                .gender(event.getGender())
+                .weight(event.getWeight())
+                .scientificName(event.getScientificName())
+                .userId(event.getUserId())
+                .dead(event.isDead())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    // 늦게 도착한 이전 이벤트는 무시
+    public boolean update(TurtleEventDTO event) {
+        if (event.getOccurredAt() < this.occurredAt) {
+            return false;
+        }
+        this.gender = event.getGender();
+        this.weight = event.getWeight();
+        this.scientificName = event.getScientificName();
+        this.userId = event.getUserId();
+        this.dead = event.isDead();
+        this.occurredAt = event.getOccurredAt();
+        return true;
+    }
+}
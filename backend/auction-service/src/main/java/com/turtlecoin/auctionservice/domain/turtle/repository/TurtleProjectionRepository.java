@@ -0,0 +1,7 @@
+package com.turtlecoin.auctionservice.domain.turtle.repository;
+
+import com.turtlecoin.auctionservice.domain.turtle.entity.TurtleProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TurtleProjectionRepository extends JpaRepository<TurtleProjection, Long> {
+}
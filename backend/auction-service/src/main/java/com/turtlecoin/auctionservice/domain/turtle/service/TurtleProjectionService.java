@@ -0,0 +1,116 @@
+package com.turtlecoin.auctionservice.domain.turtle.service;
+
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionResponseCache;
+import com.turtlecoin.auctionservice.domain.turtle.dto.TurtleEventDTO;
+import com.turtlecoin.auctionservice.domain.turtle.entity.TurtleProjection;
+import com.turtlecoin.auctionservice.domain.turtle.repository.TurtleProjectionRepository;
+import com.turtlecoin.auctionservice.feign.MainClient;
+import com.turtlecoin.auctionservice.feign.service.TurtleInfoService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// main-service 거북이 정보의 로컬 복사본(turtle_projection) 관리
+// 생성/양도/폐사 이벤트로 갱신하고, 시작할 때와 reconcile-interval 마다 main-service 의 전체 스냅샷과 다시 맞춘다.
+// (RabbitMQ 장애 등으로 유실된 이벤트도 다음 reconcile 에서 반영된다)
+// 이벤트와 스냅샷 모두 occurredAt 이 더 최신일 때만 반영하므로 순서가 뒤섞여도 오래된 정보로 덮어쓰지 않는다.
+// 경매 목록은 복사본으로 거르므로 복사본이 바뀌면 목록 응답 캐시 버전도 올린다.
+@Slf4j
+@Service
+public class TurtleProjectionService {
+    private static final int SNAPSHOT_PAGE_SIZE = 500;
+
+    private final TurtleProjectionRepository turtleProjectionRepository;
+    private final MainClient mainClient;
+    private final TurtleInfoService turtleInfoService;
+    private final AuctionResponseCache auctionResponseCache;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${auction.turtle.reconcile-interval-ms:3600000}")
+    private long reconcileIntervalMillis;
+
+    public TurtleProjectionService(TurtleProjectionRepository turtleProjectionRepository,
+                                   MainClient mainClient,
+                                   TurtleInfoService turtleInfoService,
+                                   AuctionResponseCache auctionResponseCache,
+                                   @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.turtleProjectionRepository = turtleProjectionRepository;
+        this.mainClient = mainClient;
+        this.turtleInfoService = turtleInfoService;
+        this.auctionResponseCache = auctionResponseCache;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @RabbitListener(queues = "auction.turtle.event.queue")
+    public void receiveTurtleEvent(TurtleEventDTO event) {
+        log.info("거북이 이벤트 수신: turtleId = {}, type = {}", event.getTurtleId(), event.getEventType());
+        TurtleProjection projection = turtleProjectionRepository.findById(event.getTurtleId()).orElse(null);
+        if (apply(projection, event)) {
+            auctionResponseCache.bumpList();
+        }
+        turtleInfoService.invalidate(event.getTurtleId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Duration interval = Duration.ofMillis(reconcileIntervalMillis);
+        taskScheduler.execute(this::reconcile);
+        taskScheduler.scheduleWithFixedDelay(this::reconcile, Instant.now().plus(interval), interval);
+    }
+
+    // 스냅샷을 id 순서로 읽어 복사본에 반영 (없는 거북이는 추가, 더 최신이면 갱신)
+    public void reconcile() {
+        try {
+            long lastId = 0;
+            int loaded = 0;
+            int changed = 0;
+            while (true) {
+                List<TurtleEventDTO> turtles = mainClient.getTurtleSnapshot(lastId, SNAPSHOT_PAGE_SIZE);
+                Map<Long, TurtleProjection> projections = turtleProjectionRepository
+                        .findAllById(turtles.stream().map(TurtleEventDTO::getTurtleId).toList()).stream()
+                        .collect(Collectors.toMap(TurtleProjection::getId, Function.identity()));
+                for (TurtleEventDTO turtle : turtles) {
+                    if (apply(projections.get(turtle.getTurtleId()), turtle)) {
+                        changed++;
+                    }
+                }
+                loaded += turtles.size();
+                if (turtles.size() < SNAPSHOT_PAGE_SIZE) {
+                    break;
+                }
+                lastId = turtles.get(turtles.size() - 1).getTurtleId();
+            }
+            if (changed > 0) {
+                auctionResponseCache.bumpList();
+            }
+            log.info("거북이 정보 reconcile 완료: 조회 = {}건, 반영 = {}건", loaded, changed);
+        } catch (Exception e) {
+            log.error("거북이 정보 reconcile 실패", e);
+        }
+    }
+
+    // 복사본이 바뀌었으면 true
+    private boolean apply(TurtleProjection projection, TurtleEventDTO event) {
+        if (projection == null) {
+            turtleProjectionRepository.save(TurtleProjection.from(event));
+            return true;
+        }
+        if (projection.update(event)) {
+            turtleProjectionRepository.save(projection);
+            return true;
+        }
+        return false;
+    }
+}
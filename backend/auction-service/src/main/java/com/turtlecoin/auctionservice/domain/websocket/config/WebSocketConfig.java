@@ -2,6 +2,7 @@ package com.turtlecoin.auctionservice.domain.websocket.config;
 
 
 import com.turtlecoin.auctionservice.domain.websocket.interceptor.WebSocketHandshakeInterceptor;
+import com.turtlecoin.auctionservice.domain.websocket.relay.StompClusterRelay;
 import com.turtlecoin.auctionservice.feign.MainClient;
 import com.turtlecoin.auctionservice.global.utils.JWTUtil;
 import lombok.RequiredArgsConstructor;
@@ -25,13 +26,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final JWTUtil jwtUtil;
     private final MainClient mainClient;
     private final RedisTemplate redisTemplate;
+    private final StompClusterRelay stompClusterRelay;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/sub", "/queue"); // 메세지 받을 때 경로
         config.setApplicationDestinationPrefixes("/pub"); // 메세지 보낼 때 경로
         config.setUserDestinationPrefix("/user"); // user로 사용자 경로 구분
-
+        if (stompClusterRelay.isEnabled()) {
+            config.configureBrokerChannel().interceptors(stompClusterRelay); // 다른 서버 구독자에게도 전달
+        }
     }
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
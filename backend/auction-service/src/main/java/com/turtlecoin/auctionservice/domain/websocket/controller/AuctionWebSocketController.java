@@ -1,8 +1,9 @@
 package com.turtlecoin.auctionservice.domain.websocket.controller;
 
-import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
-import com.turtlecoin.auctionservice.domain.auction.facade.RedissonLockFacade;
-import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.deadline.AuctionClock;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuction;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
+import com.turtlecoin.auctionservice.domain.auction.sequencer.BidSequencer;
 import com.turtlecoin.auctionservice.domain.auction.service.BidService;
 import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
 import com.turtlecoin.auctionservice.feign.MainClient;
@@ -22,7 +23,6 @@ import org.springframework.stereotype.Controller;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Controller
@@ -30,70 +30,73 @@ import java.util.concurrent.TimeUnit;
 public class AuctionWebSocketController {
 
     private final SimpMessagingTemplate messagingTemplate;
-    private final RedissonLockFacade redissonLockFacade;
     private final MainClient mainClient;
     private final RedisTemplate redisTemplate;
     private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
     private static final String AUCTION_BID_KEY = "auction_bid_";
-    private final AuctionRepository auctionRepository;
+    private final LiveAuctionRegistry liveAuctionRegistry;
     private final JWTUtil jwtUtil;
     private final BidService bidService;
+    private final BidSequencer bidSequencer;
+    private final AuctionClock auctionClock;
 //    private final BidService bidService;
 
+    // 경매 정보는 LiveAuctionRegistry, 마감 시각은 AuctionClock 메모리에서 읽고 Redis 는 현재 입찰가만 한 번 조회한다.
     @MessageMapping("/auction/{auctionId}/init")
     public void sendInitialData(@DestinationVariable Long auctionId, Principal principal) {
-        Auction auction = auctionRepository.findById(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매가 존재하지 않습니다."));
+        LiveAuction auction = liveAuctionRegistry.getWithProfile(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매가 존재하지 않습니다."));
         String bidKey = AUCTION_BID_KEY+auctionId;
-        String endKey = AUCTION_END_KEY_PREFIX+auctionId;
 
         Long userId = Long.valueOf(principal.getName());
 
-        Long remainingTime = redisTemplate.getExpire(endKey, TimeUnit.MILLISECONDS);
-
-        if (!redisTemplate.hasKey(bidKey)) {
-            log.warn("Redis에 키가 존재하지 않습니다. 기본값을 사용합니다.");
+        // 클라이언트는 endTime 과 serverTime 으로 직접 카운트다운
+        Long endTime = auctionClock.getEndTime(auctionId);
+        long serverTime = auctionClock.now();
+        Long remainingTime = endTime != null ? Math.max(endTime - serverTime, 0) : null;
 
+        // 입찰 기록이 없으면 null
+        Object bidAmountObj = redisTemplate.opsForHash().get(bidKey, "bidAmount");
+        Double nowBid;
+        Double nextBid;
+        if (bidAmountObj == null) {
             // 기본값으로 처리
-            Double nowBid = 0D; // 기본값
-            Double nextBid = auction.getMinBid();
-
-
-            // 필요한 데이터를 초기화 (nextBid랑 remainingTime)
-            Map<String, Object> initialData = new HashMap<>();
-            initialData.put("bidAmount", nowBid);
-            initialData.put("nextBid", nextBid);
-            initialData.put("remainingTime", remainingTime);
-
-            // 클라이언트에게 데이터 전송
-            String destination = "/queue/auction/" + auctionId + "/init";
-
-        // /user/{userId}/queue/auction/{auctionId}/init
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.bidSuccess("Join", "200", initialData));
-
-            log.info("기본값을 사용하여 유저에게 데이터 전송 완료: userId={}, auctionId={}", userId, auctionId);
+            nowBid = 0D;
+            nextBid = auction.getMinBid();
         } else {
-            // 키가 있는 경우, Redis에서 값을 가져옵니다.
-            log.info("Redis에 키가 존재합니다. Redis에서 정보를 가져옵니다.");
-
-            Object bidAmountObj = redisTemplate.opsForHash().get(bidKey, "bidAmount");
-            Double nowBid = (bidAmountObj != null) ? Double.parseDouble(bidAmountObj.toString()) : 0D;
-
-            Double nextBid = nowBid + bidService.calculateBidIncrement(nowBid);
+            nowBid = Double.parseDouble(bidAmountObj.toString());
+            nextBid = nowBid + bidService.calculateBidIncrement(nowBid);
+        }
 
-            // 필요한 데이터 조회 및 응답 처리
-            Map<String, Object> initialData = new HashMap<>();
-            initialData.put("bidAmount", nowBid);
-            initialData.put("nextBid", nextBid);
-            initialData.put("remainingTime", remainingTime);
+        // 필요한 데이터를 초기화 (nextBid랑 remainingTime)
+        Map<String, Object> initialData = new HashMap<>();
+        initialData.put("bidAmount", nowBid);
+        initialData.put("nextBid", nextBid);
+        initialData.put("remainingTime", remainingTime);
+        initialData.put("endTime", endTime);
+        initialData.put("serverTime", serverTime);
+        initialData.put("sellerNickname", auction.getSellerNickname());
+        initialData.put("turtle", auction.getTurtle());
+
+        // 클라이언트에게 데이터 전송
+        // /user/{userId}/queue/auction/{auctionId}/init
+        String destination = "/queue/auction/" + auctionId + "/init";
+        messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                ResponseVO.bidSuccess("Join", "200", initialData));
 
-            // 클라이언트에게 데이터 전송
-            String destination = "/queue/auction/" + auctionId + "/init";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.bidSuccess("Join", "200", initialData));
+        log.info("유저에게 데이터 전송 완료: userId={}, auctionId={}", userId, auctionId);
+    }
 
-            log.info("Redis 유저에게 데이터 전송 완료: userId={}, auctionId={}", userId, auctionId);
-        }
+    // 접속 시 시계 보정 (/pub/time/sync)
+    // 클라이언트는 보낸 시각(clientTime)과 받은 시각의 중간값을 serverTime 과 비교해서 offset 을 계산한다.
+    @MessageMapping("/time/sync")
+    public void syncClock(@Payload Map<String, Long> request, Principal principal) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("clientTime", request.get("clientTime"));
+        data.put("serverTime", auctionClock.now());
+
+        // /user/{userId}/queue/time
+        messagingTemplate.convertAndSendToUser(principal.getName(), "/queue/time",
+                ResponseVO.bidSuccess("Time", "200", data));
     }
 
     // 클라이언트가 특정 경매에 입찰을 보낼 때 (/pub/auction/{auctionId}/bid)
@@ -108,8 +111,26 @@ public class AuctionWebSocketController {
 
         log.info("socketUserId : {}", socketUserId);
 
+        if (!bidSequencer.isEnabled()) {
+            processBid(auctionId, userId, nextBid, socketUserId);
+            return;
+        }
+
+        // 경매별 입찰 큐에 넣고 STOMP inbound 스레드는 바로 반환
+        boolean accepted = bidSequencer.submit(auctionId, () -> processBid(auctionId, userId, nextBid, socketUserId));
+        if (accepted) {
+            return;
+        }
+        if (bidSequencer.isClosed(auctionId)) {
+            sendFailureMessage(socketUserId, auctionId, "400", "이미 종료된 경매입니다.");
+            return;
+        }
+        sendFailureMessage(socketUserId, auctionId, "503", "입찰 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도하세요.");
+    }
+
+    private void processBid(Long auctionId, Long userId, Double nextBid, Long socketUserId) {
         try {
-            redissonLockFacade.updateBidWithLock(auctionId, userId, nextBid, socketUserId);
+            bidService.processBidWithRedis(auctionId, userId, nextBid);
             log.info("입찰이 성공적으로 처리되었습니다: auctionId = {}, userId = {}, bidAmount = {}", auctionId, userId, nextBid);
         } catch (SameUserBidException e) {
             sendFailureMessage(socketUserId, auctionId, "400", "자신의 입찰에 재입찰 할 수 없습니다.");
@@ -119,8 +140,6 @@ public class AuctionWebSocketController {
             sendFailureMessage(socketUserId, auctionId, "422", "입찰 가능한 시간이 아닙니다.");
         } catch (AuctionAlreadyFinishedException e) {
             sendFailureMessage(socketUserId, auctionId, "400", "이미 종료된 경매입니다.");
-        } catch (BidConcurrencyException e) {
-            sendFailureMessage(socketUserId, auctionId, "409", "다른 사람이 입찰 중입니다. 잠시 후 다시 시도하세요.");
         } catch (BidNotValidException e) {
             sendFailureMessage(socketUserId, auctionId, "400", "자신의 경매에 입찰할 수 없습니다.");
         } catch (AuctionNotFoundException e) {
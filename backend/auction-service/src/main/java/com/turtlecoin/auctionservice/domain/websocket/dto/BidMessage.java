@@ -4,7 +4,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.*;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BidMessage {
@@ -14,4 +14,8 @@ public class BidMessage {
     private Double bidAmount;
     private Double nextBid;
     private Double remainingTime;
+    private Long endTime; // 마감 시각 (epoch ms)
+    private Long serverTime; // 메시지 생성 시 서버 시각 (epoch ms)
+    private Integer bidCount; // 이 메시지에 합쳐진 입찰 수
+    private Long seq; // bid.lua 가 매긴 경매별 입찰 순번 (클수록 최신)
 }
\ No newline at end of file
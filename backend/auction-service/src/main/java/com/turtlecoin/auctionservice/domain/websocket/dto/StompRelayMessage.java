@@ -0,0 +1,15 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import lombok.*;
+
+// 다른 auction-service 서버로 전달되는 STOMP 메시지
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StompRelayMessage {
+    private String nodeId;
+    private String destination;
+    private String contentType;
+    private byte[] payload;
+}
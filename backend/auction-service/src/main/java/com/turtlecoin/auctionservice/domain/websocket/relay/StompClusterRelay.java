@@ -0,0 +1,102 @@
+package com.turtlecoin.auctionservice.domain.websocket.relay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turtlecoin.auctionservice.domain.websocket.dto.StompRelayMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.UUID;
+
+// 여러 auction-service 서버 사이에서 STOMP 브로드캐스트를 Redis pub/sub 으로 중계
+// auction.websocket.broker=redis 일 때만 동작한다.
+// - 이 서버에서 보낸 /sub/**, /user/** 메시지는 그대로 로컬 simple broker 로 전달하고, 직렬화된 payload 만 다른 서버로 publish 한다.
+// - 다른 서버에서 받은 메시지는 로컬 broker channel 에 넣어 이 서버에 연결된 구독자에게만 전달한다.
+//   /user/** 메시지는 각 서버의 UserDestinationMessageHandler 가 자신이 가진 세션으로만 변환한다.
+@Slf4j
+@Component
+public class StompClusterRelay implements ChannelInterceptor, MessageListener {
+    public static final String CHANNEL = "stomp:auction:relay";
+    private static final String RELAYED_HEADER = "clusterRelayed";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${auction.websocket.broker:simple}")
+    private String brokerMode;
+
+    public StompClusterRelay(RedisTemplate<String, Object> redisTemplate, @Lazy SimpMessagingTemplate messagingTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    public boolean isEnabled() {
+        return "redis".equalsIgnoreCase(brokerMode);
+    }
+
+    // broker channel 로 나가는 메시지를 다른 서버에 publish
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (destination == null || accessor.getHeader(RELAYED_HEADER) != null || !isClusterDestination(destination)) {
+            return message;
+        }
+        if (!(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            StompRelayMessage relayMessage = StompRelayMessage.builder()
+                    .nodeId(nodeId)
+                    .destination(destination)
+                    .contentType(contentType != null ? contentType.toString() : null)
+                    .payload(payload)
+                    .build();
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(relayMessage));
+        } catch (Exception e) {
+            log.error("STOMP 메시지 중계 실패: destination = {}", destination, e);
+        }
+        return message;
+    }
+
+    // 다른 서버에서 publish 한 메시지를 로컬 구독자에게 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StompRelayMessage relayMessage = objectMapper.readValue(message.getBody(), StompRelayMessage.class);
+            if (nodeId.equals(relayMessage.getNodeId())) {
+                return;
+            }
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+            accessor.setDestination(relayMessage.getDestination());
+            accessor.setHeader(RELAYED_HEADER, true);
+            if (relayMessage.getContentType() != null) {
+                accessor.setContentType(MimeType.valueOf(relayMessage.getContentType()));
+            }
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(relayMessage.getDestination(),
+                    MessageBuilder.createMessage(relayMessage.getPayload(), accessor.getMessageHeaders()));
+        } catch (Exception e) {
+            log.error("중계된 STOMP 메시지 처리 실패", e);
+        }
+    }
+
+    private boolean isClusterDestination(String destination) {
+        return destination.startsWith("/sub/") || destination.startsWith("/user/");
+    }
+}
@@ -1,5 +1,7 @@
 package com.turtlecoin.auctionservice.feign;
 
+import com.turtlecoin.auctionservice.domain.s3.dto.ImageVariants;
+import com.turtlecoin.auctionservice.domain.turtle.dto.TurtleEventDTO;
 import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
 import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
 import com.turtlecoin.auctionservice.feign.dto.TurtleResponseDTO;
@@ -8,9 +10,12 @@ import com.turtlecoin.auctionservice.global.config.FeignConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "main-service", configuration = FeignConfig.class)
 public interface MainClient {
@@ -34,4 +39,19 @@ public interface MainClient {
     @GetMapping("/main/user/{userId}/nickname")
     String getUserNicknameById(@PathVariable("userId") Long userId);
 
+    // 여러 사용자/거북이 정보를 한 번에 조회 (없는 id 는 결과에서 빠짐)
+    @GetMapping("/main/user/batch")
+    List<UserResponseDTO> getUsersByIds(@RequestParam("ids") List<Long> userIds);
+
+    @GetMapping("/main/turtle/batch")
+    List<TurtleFilteredResponseDTO> getTurtlesByIds(@RequestParam("ids") List<Long> turtleIds);
+
+    // 거북이 복사본 초기 적재 (id 순서)
+    @GetMapping("/main/turtle/snapshot")
+    List<TurtleEventDTO> getTurtleSnapshot(@RequestParam("lastId") Long lastId, @RequestParam("size") int size);
+
+    // 업로드한 이미지의 썸네일/중간 크기 이미지 생성 (원본 주소 -> 변환 이미지 주소, 실패한 이미지는 결과에서 빠짐)
+    @PostMapping("/main/image/variants")
+    Map<String, ImageVariants> createImageVariants(@RequestBody List<String> imageUrls);
+
 }
@@ -0,0 +1,56 @@
+package com.turtlecoin.auctionservice.feign.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turtlecoin.auctionservice.feign.MainClient;
+import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// main-service 거북이 정보 조회
+// 로컬 캐시에 없는 거북이만 모아서 한 번에 요청한다.
+@Service
+@Slf4j
+public class TurtleInfoService {
+    private final MainClient mainClient;
+    private final Cache<Long, TurtleFilteredResponseDTO> turtleCache;
+
+    public TurtleInfoService(MainClient mainClient,
+                             @Value("${auction.turtle-cache.maximum-size:10000}") long maximumSize,
+                             @Value("${auction.turtle-cache.expire-after-ms:60000}") long expireAfterMillis) {
+        this.mainClient = mainClient;
+        this.turtleCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .build();
+    }
+
+    // 중복 id 는 한 번만 조회하고, 찾지 못한 거북이는 결과에서 빠진다.
+    public Map<Long, TurtleFilteredResponseDTO> getTurtlesByIds(Collection<Long> turtleIds) {
+        Set<Long> ids = turtleIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return turtleCache.getAll(ids, this::loadTurtles);
+    }
+
+    public TurtleFilteredResponseDTO getTurtle(Long turtleId) {
+        return getTurtlesByIds(List.of(turtleId)).get(turtleId);
+    }
+
+    // 거북이 이벤트를 받으면 호출
+    public void invalidate(Long turtleId) {
+        turtleCache.invalidate(turtleId);
+    }
+
+    private Map<Long, TurtleFilteredResponseDTO> loadTurtles(Set<? extends Long> turtleIds) {
+        return mainClient.getTurtlesByIds(new ArrayList<>(turtleIds)).stream()
+                .collect(Collectors.toMap(TurtleFilteredResponseDTO::getId, Function.identity(), (first, second) -> first));
+    }
+}
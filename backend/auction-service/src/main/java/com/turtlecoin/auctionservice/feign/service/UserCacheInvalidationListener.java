@@ -0,0 +1,30 @@
+package com.turtlecoin.auctionservice.feign.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// main-service 의 사용자 프로필 변경 알림(user:profile:changed)을 받아 사용자 캐시를 비움
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener implements MessageListener {
+    public static final String USER_PROFILE_CHANGED_CHANNEL = "user:profile:changed";
+
+    private final UserService userService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            userService.invalidate(Long.parseLong(body));
+            log.info("사용자 캐시 삭제: userId = {}", body);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 프로필 변경 알림: {}", body);
+        }
+    }
+}
@@ -1,33 +1,89 @@
 package com.turtlecoin.auctionservice.feign.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.turtlecoin.auctionservice.feign.MainClient;
 import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+// 닉네임 조회는 로컬 캐시(1차) -> Redis(2차) -> main-service 순서로 한다.
+// - 로컬 캐시는 크기 제한이 있는 Caffeine(W-TinyLFU)을 사용하고, 같은 키를 동시에 조회하면 한 번만 로드한다.
+// - refresh-after-write 가 지나면 기존 값을 바로 돌려주고 백그라운드에서 다시 읽어온다.
+// - main-service 에서 프로필이 바뀌면 UserCacheInvalidationListener 가 두 캐시를 모두 비운다.
+// 경매 목록/상세에 필요한 사용자 정보는 로컬 캐시에 없는 것만 모아서 main-service 에 한 번에 요청한다.
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class UserService {
+    private static final String USER_KEY_PREFIX = "user_";
+    private static final long REDIS_TTL_MINUTES = 5;
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final MainClient mainClient;
+    private final LoadingCache<Long, String> nicknameCache;
+    private final Cache<Long, UserResponseDTO> userCache;
+
+    public UserService(RedisTemplate<String, Object> redisTemplate,
+                       MainClient mainClient,
+                       @Value("${auction.user-cache.maximum-size:10000}") long maximumSize,
+                       @Value("${auction.user-cache.refresh-after-ms:60000}") long refreshAfterMillis,
+                       @Value("${auction.user-cache.expire-after-ms:300000}") long expireAfterMillis,
+                       @Value("${auction.user-cache.profile-expire-after-ms:60000}") long profileExpireAfterMillis) {
+        this.redisTemplate = redisTemplate;
+        this.mainClient = mainClient;
+        this.nicknameCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMillis))
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .build(this::loadNickname);
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(profileExpireAfterMillis))
+                .build();
+    }
 
     public String getUserNicknameById(Long userId) {
-        String cacheKey = "user_" + userId;
+        return nicknameCache.get(userId);
+    }
+
+    // 중복 id 는 한 번만 조회하고, 찾지 못한 사용자는 결과에서 빠진다.
+    public Map<Long, UserResponseDTO> getUsersByIds(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userCache.getAll(ids, this::loadUsers);
+    }
+
+    // main-service 에서 사용자 정보가 바뀌었을 때 호출
+    public void invalidate(Long userId) {
+        nicknameCache.invalidate(userId);
+        userCache.invalidate(userId);
+        redisTemplate.delete(USER_KEY_PREFIX + userId);
+    }
+
+    private String loadNickname(Long userId) {
+        String cacheKey = USER_KEY_PREFIX + userId;
         String userNickname = (String) redisTemplate.opsForValue().get(cacheKey);
         if (userNickname == null) {
             // 정보가 없으면 main-service에서, 있으면 캐시에서.
-            // 어떻게 가져오느냐에 따라서 시간 설정을 다르게 해줄 필요가 있음
             userNickname = mainClient.getUserNicknameById(userId);
-            redisTemplate.opsForValue().set(cacheKey, userNickname, 5, TimeUnit.MINUTES); // TTL 5분 설정
-//            log.info("Main-service에서 가져오기");
-            return userNickname;
+            redisTemplate.opsForValue().set(cacheKey, userNickname, REDIS_TTL_MINUTES, TimeUnit.MINUTES); // TTL 5분 설정
         }
-//        log.info("Redis에서 가져오기");
         return userNickname;
     }
+
+    private Map<Long, UserResponseDTO> loadUsers(Set<? extends Long> userIds) {
+        return mainClient.getUsersByIds(new ArrayList<>(userIds)).stream()
+                .collect(Collectors.toMap(UserResponseDTO::getUserId, Function.identity(), (first, second) -> first));
+    }
 }
@@ -0,0 +1,86 @@
+package com.turtlecoin.auctionservice.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+    // 경매별 입찰 큐를 처리하는 스레드 풀
+    // 한 경매의 입찰은 한 번에 하나의 스레드에서만 처리되고, 서로 다른 경매는 병렬로 처리된다.
+    @Bean
+    public ThreadPoolTaskExecutor bidSequencerExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setThreadNamePrefix("bid-sequencer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    // 마감된 경매의 종료 처리(DB 갱신, 결과 전송)를 수행하는 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor auctionCloseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setThreadNamePrefix("auction-close-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 버전이 바뀐 경매 목록/상세 응답을 백그라운드에서 다시 만드는 스레드 풀
+    @Bean
+    public ThreadPoolTaskExecutor responseCacheExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("response-cache-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 경매 이미지를 S3에 동시에 업로드하는 스레드 풀, 풀 크기가 동시 업로드 수의 상한이다.
+    @Bean
+    public ThreadPoolTaskExecutor imageUploadExecutor(@Value("${auction.image-upload.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("image-upload-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 업로드된 이미지의 썸네일/중간 크기 이미지 생성을 main-service 에 요청하는 스레드 풀
+    // 실제 변환은 main-service 에서 하므로 동시에 보내는 요청 수를 작게 제한한다.
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 경매 SSE 구독자에게 이벤트를 쓰는 스레드 풀
+    // 구독자를 묶음 단위로 나눠 넘기므로 큐에는 이벤트당 (구독자 수 / 묶음 크기) 개의 작업만 쌓인다.
+    @Bean
+    public ThreadPoolTaskExecutor sseExecutor(@Value("${auction.sse.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -46,6 +47,22 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(auctionResultQueue).to(auctionResultExchange).with("auction.result.key");
     }
 
+    // main-service 거북이 생성/양도/폐사 이벤트 구독
+    @Bean
+    TopicExchange turtleEventExchange() {
+        return new TopicExchange("turtle.event.exchange");
+    }
+
+    @Bean
+    Queue turtleEventQueue() {
+        return new Queue("auction.turtle.event.queue", true);
+    }
+
+    @Bean
+    Binding turtleEventBinding(TopicExchange turtleEventExchange, Queue turtleEventQueue) {
+        return BindingBuilder.bind(turtleEventQueue).to(turtleEventExchange).with("turtle.#");
+    }
+
     // 4. 메시지 전송/수신을 위한 JSON 메시지 컨버터 설정
     @Bean
     public MessageConverter messageConverter() {
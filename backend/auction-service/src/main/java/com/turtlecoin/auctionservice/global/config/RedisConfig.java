@@ -1,17 +1,24 @@
 package com.turtlecoin.auctionservice.global.config;
 
-import com.turtlecoin.auctionservice.domain.auction.listener.AuctionExpirationListener;
+import com.turtlecoin.auctionservice.domain.auction.broadcast.SseEventBus;
+import com.turtlecoin.auctionservice.domain.websocket.relay.StompClusterRelay;
+import com.turtlecoin.auctionservice.feign.service.UserCacheInvalidationListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.List;
 
 @Configuration
 public class RedisConfig {
@@ -51,18 +58,61 @@ public class RedisConfig {
         return template;
     }
 
+    // 다른 서버에서 중계된 STOMP 메시지, SSE 이벤트, main-service 의 사용자 변경 알림 구독
     @Bean
-    RedisMessageListenerContainer container(RedisConnectionFactory connectionFactory,
-                                            MessageListenerAdapter listenerAdapter) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       StompClusterRelay stompClusterRelay,
+                                                                       SseEventBus sseEventBus,
+                                                                       UserCacheInvalidationListener userCacheInvalidationListener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(lettuceConnectionFactory());
-
-        container.addMessageListener(listenerAdapter, new PatternTopic("__keyevent@0__:expired"));
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userCacheInvalidationListener,
+                new ChannelTopic(UserCacheInvalidationListener.USER_PROFILE_CHANGED_CHANNEL));
+        container.addMessageListener(sseEventBus, new ChannelTopic(SseEventBus.CHANNEL));
+        if (stompClusterRelay.isEnabled()) {
+            container.addMessageListener(stompClusterRelay, new ChannelTopic(StompClusterRelay.CHANNEL));
+        }
         return container;
     }
 
+    // 입찰 검증/갱신/마감시간 연장을 한 번에 처리하는 Lua 스크립트
+    @Bean
+    public RedisScript<List> bidScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/bid.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    // 경매 종료 처리 lease 획득/완료/반납 스크립트
+    @Bean
+    public RedisScript<Long> closeClaimScript() {
+        return longScript("scripts/close_claim.lua");
+    }
+
     @Bean
-    MessageListenerAdapter listenerAdapter (AuctionExpirationListener listener) {
-        return new MessageListenerAdapter(listener, "onMessage");
+    public RedisScript<Long> closeCompleteScript() {
+        return longScript("scripts/close_complete.lua");
+    }
+
+    @Bean
+    public RedisScript<Long> closeReleaseScript() {
+        return longScript("scripts/close_release.lua");
+    }
+
+    // SSE 이벤트 기록 + publish 스크립트
+    @Bean
+    public RedisScript<String> ssePublishScript() {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/sse_publish.lua")));
+        script.setResultType(String.class);
+        return script;
+    }
+
+    private RedisScript<Long> longScript(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
     }
-}
\ No newline at end of file
+}
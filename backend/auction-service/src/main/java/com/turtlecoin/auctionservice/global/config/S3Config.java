@@ -3,6 +3,7 @@ package com.turtlecoin.auctionservice.global.config;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,16 +28,28 @@ public class S3Config {
 	@Value("${cloud.aws.region}")
 	private String region;
 
+	// S3 호환 저장소(MinIO, LocalStack 등) 주소, 비어 있으면 AWS S3를 사용
+	@Value("${cloud.aws.s3.endpoint:}")
+	private String endpoint;
+
 	@Bean // Spring 컨텍스트에 Bean 등록
 	public AmazonS3 amazonS3() {
 		// AWS 접근키와 비밀키를 이용해서 AWSCredentials 객체 생성
 		AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 		// AmazonS3ClientBuilder 사용해서 Amazon S3 클라이언트 생성
 		// 이 빌더를 통해 자격 증명과 지역을 설정할 수 있다.
-		return AmazonS3ClientBuilder.
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.
 			standard()
-			.withCredentials(new AWSStaticCredentialsProvider(credentials))
 			//  -> AWS 자격 증명 설정 위에서 생성한 객체를 이용
+			.withCredentials(new AWSStaticCredentialsProvider(credentials));
+		if (!endpoint.isBlank()) {
+			// 로컬 S3 호환 저장소는 버킷을 경로로 지정
+			return builder
+				.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+				.withPathStyleAccessEnabled(true)
+				.build();
+		}
+		return builder
 			.withRegion(region)
 			// -> S3 클라이언트가 사용할 지역 설정
 			.build();
@@ -0,0 +1,62 @@
+-- 입찰 검증, 갱신, 마감시간 연장을 한 번의 호출로 원자적으로 수행
+-- KEYS[1] : auction_bid_{auctionId}
+-- KEYS[2] : auction_end_{auctionId}
+-- KEYS[3] : auction_bid_log_{auctionId} (경매별 입찰 기록 stream)
+-- KEYS[4] : auction_bid_ledger (MySQL 적재 대기 stream)
+-- KEYS[5] : auction_deadlines (경매 마감 시각 sorted set)
+-- KEYS[6] : auction_end_times (경매별 절대 마감 시각 hash)
+-- KEYS[7] : auction_version_{auctionId} (경매 상세 응답 캐시 버전)
+-- ARGV[1] : 입찰자 userId
+-- ARGV[2] : 입찰 금액
+-- ARGV[3] : 다음 입찰 금액
+-- ARGV[4] : 판매자 userId
+-- ARGV[5] : 연장할 마감시간 (ms)
+-- ARGV[6] : auctionId
+-- ARGV[7] : 경매 상세 응답 캐시 버전 키 만료 시간 (ms)
+-- 반환값 : { 결과 코드, 현재 입찰가, 남은 시간(ms), 입찰 순번, 마감 시각(epoch ms) }
+
+if ARGV[1] == ARGV[4] then
+    return { 'OWN_AUCTION', '0', '-1', '0', '0' }
+end
+
+local current = redis.call('HMGET', KEYS[1], 'userId', 'bidAmount')
+local currentUserId = current[1]
+local currentBid = tonumber(current[2]) or 0
+
+local remainingTime = redis.call('PTTL', KEYS[2])
+
+if currentUserId and currentUserId == ARGV[1] then
+    return { 'SAME_USER', tostring(currentBid), tostring(remainingTime), '0', '0' }
+end
+
+if tonumber(ARGV[2]) <= currentBid then
+    return { 'TOO_LOW', tostring(currentBid), tostring(remainingTime), '0', '0' }
+end
+
+-- 키가 만료됐거나 경매가 시작되지 않았으면
+if remainingTime < 0 then
+    return { 'EXPIRED', tostring(currentBid), tostring(remainingTime), '0', '0' }
+end
+
+-- 입찰시간 갱신 후 입찰 정보 갱신
+local now = redis.call('TIME')
+local nowMs = now[1] * 1000 + math.floor(now[2] / 1000)
+redis.call('PEXPIRE', KEYS[2], ARGV[5])
+local endTime = nowMs + tonumber(ARGV[5])
+redis.call('ZADD', KEYS[5], endTime, ARGV[6])
+redis.call('HSET', KEYS[6], ARGV[6], tostring(endTime))
+redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'bidAmount', ARGV[2], 'nextBid', ARGV[3], 'remainingTime', ARGV[5])
+redis.call('INCR', KEYS[7])
+redis.call('PEXPIRE', KEYS[7], ARGV[7])
+
+-- 입찰 기록 추가
+-- 경매별 stream 의 id 는 0-{순번} 으로 지정해서 순번 범위로 페이지 조회가 가능하도록 한다.
+local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1)
+local bidTime = tostring(nowMs)
+redis.call('XADD', KEYS[3], '0-' .. seq,
+        'seq', seq, 'userId', ARGV[1], 'bidAmount', ARGV[2], 'bidTime', bidTime)
+-- 적재 대기 stream 은 여기서 자르지 않는다. (MySQL 적재, ack 가 끝난 기록만 BidHistoryArchiver 가 지운다)
+redis.call('XADD', KEYS[4], '*',
+        'auctionId', ARGV[6], 'seq', seq, 'userId', ARGV[1], 'bidAmount', ARGV[2], 'bidTime', bidTime)
+
+return { 'ACCEPTED', ARGV[2], ARGV[5], tostring(seq), tostring(endTime) }
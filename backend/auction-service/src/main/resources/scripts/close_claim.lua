@@ -0,0 +1,28 @@
+-- 경매 종료 처리 권한 획득 (lease)
+-- KEYS[1] : auction_deadlines
+-- KEYS[2] : auction_end_{auctionId}
+-- KEYS[3] : auction_close_{auctionId}
+-- ARGV[1] : 종료 처리하는 서버 id
+-- ARGV[2] : lease 시간 (ms)
+-- ARGV[3] : auctionId
+-- 반환값 : 획득하면 1, 아니면 0
+
+-- 입찰로 마감이 연장된 경우
+if redis.call('PTTL', KEYS[2]) > 0 then
+    return 0
+end
+
+-- 이미 종료 처리가 끝난 경우
+if not redis.call('ZSCORE', KEYS[1], ARGV[3]) then
+    return 0
+end
+
+if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 0
+end
+
+-- 처리 중인 서버가 죽으면 lease 만료 후 다른 서버의 sweep 에 다시 잡히도록 마감 시각을 미룬다.
+local now = redis.call('TIME')
+local nowMs = now[1] * 1000 + math.floor(now[2] / 1000)
+redis.call('ZADD', KEYS[1], nowMs + tonumber(ARGV[2]), ARGV[3])
+return 1
@@ -0,0 +1,13 @@
+-- 경매 종료 처리 완료
+-- KEYS[1] : auction_deadlines
+-- KEYS[2] : auction_close_{auctionId}
+-- KEYS[3] : auction_end_times
+-- ARGV[1] : 종료 처리한 서버 id
+-- ARGV[2] : auctionId
+
+redis.call('ZREM', KEYS[1], ARGV[2])
+redis.call('HDEL', KEYS[3], ARGV[2])
+if redis.call('GET', KEYS[2]) == ARGV[1] then
+    redis.call('DEL', KEYS[2])
+end
+return 1
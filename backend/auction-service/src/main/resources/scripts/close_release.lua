@@ -0,0 +1,8 @@
+-- 경매 종료 처리 실패 시 lease 반납
+-- KEYS[1] : auction_close_{auctionId}
+-- ARGV[1] : 종료 처리하던 서버 id
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,72 @@
+package com.turtlecoin.auctionservice.domain.auction.broadcast;
+
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 입찰 결과가 순번과 다른 순서로 도착해도 가장 높은 순번의 입찰을 현재가로 보내는지 확인
+class BidBroadcastCoalescerTest {
+    private static final Long AUCTION_ID = 1L;
+
+    private TaskScheduler taskScheduler;
+    private BidBroadcastCoalescer coalescer;
+    private List<BidMessage> sent;
+
+    @BeforeEach
+    void setUp() {
+        taskScheduler = mock(TaskScheduler.class);
+        coalescer = new BidBroadcastCoalescer(taskScheduler);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        // tick 안에 들어온 입찰은 모두 다음 flush 로 묶이도록 충분히 길게
+        ReflectionTestUtils.setField(coalescer, "tickMillis", 60_000L);
+        sent = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void 늦게_도착한_낮은_입찰은_대기_중인_최신_입찰을_덮어쓰지_않는다() {
+        publish(1, 10000.0);
+        publish(3, 12000.0);
+        publish(2, 11000.0);
+
+        ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(1)).schedule(flush.capture(), any(Instant.class));
+        flush.getValue().run();
+
+        assertEquals(2, sent.size());
+        assertEquals(3L, sent.get(1).getSeq());
+        assertEquals(12000.0, sent.get(1).getBidAmount());
+        assertEquals(2, sent.get(1).getBidCount());
+    }
+
+    @Test
+    void 이미_전송된_입찰보다_낮은_입찰은_보내지_않는다() {
+        publish(5, 15000.0);
+        publish(4, 14000.0);
+
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        coalescer.remove(AUCTION_ID);
+
+        assertEquals(1, sent.size());
+        assertEquals(5L, sent.get(0).getSeq());
+    }
+
+    private void publish(long seq, double bidAmount) {
+        BidMessage bidMessage = BidMessage.builder()
+                .auctionId(AUCTION_ID)
+                .bidAmount(bidAmount)
+                .seq(seq)
+                .build();
+        coalescer.publish(AUCTION_ID, bidMessage, sent::add);
+    }
+}
@@ -0,0 +1,126 @@
+package com.turtlecoin.auctionservice.domain.auction.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turtlecoin.auctionservice.domain.auction.repository.EmitterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+// 동시에 온 이벤트는 순서대로 쓰고, 큐가 가득 찬 구독자만 제거하는지 확인
+class SseBroadcasterTest {
+    private static final Long AUCTION_ID = 1L;
+
+    private EmitterRepository emitterRepository;
+    private ThreadPoolTaskExecutor sseExecutor;
+    private SseBroadcaster sseBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository();
+        ReflectionTestUtils.setField(emitterRepository, "bufferSize", 2);
+        sseExecutor = new ThreadPoolTaskExecutor();
+        sseExecutor.setCorePoolSize(4);
+        sseExecutor.setMaxPoolSize(4);
+        sseExecutor.initialize();
+        sseBroadcaster = new SseBroadcaster(emitterRepository, new ObjectMapper(), sseExecutor,
+                mock(TaskScheduler.class), mock(SseStreamHub.class), mock(SseEventBus.class));
+        ReflectionTestUtils.setField(sseBroadcaster, "batchSize", 256);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseExecutor.shutdown();
+    }
+
+    @Test
+    void 쓰는_중에_온_이벤트는_제거하지_않고_이어서_보낸다() throws Exception {
+        BlockingEmitter emitter = new BlockingEmitter();
+        emitterRepository.save(AUCTION_ID, emitter);
+
+        sseBroadcaster.deliver(AUCTION_ID, "1", "first");
+        assertTrue(emitter.started.await(1, TimeUnit.SECONDS));
+        sseBroadcaster.deliver(AUCTION_ID, "2", "second");
+        emitter.release.countDown();
+
+        await(() -> emitter.sent.size() == 2);
+        assertEquals(1, emitter.maxConcurrent.get());
+        assertFalse(emitter.completed);
+        assertEquals(1, emitterRepository.get(AUCTION_ID).size());
+    }
+
+    @Test
+    void 큐가_가득_찬_구독자는_제거하고_쓰기가_끝난_뒤_닫는다() throws Exception {
+        BlockingEmitter slow = new BlockingEmitter();
+        BlockingEmitter healthy = new BlockingEmitter();
+        healthy.release.countDown();
+        emitterRepository.save(AUCTION_ID, slow);
+        emitterRepository.save(AUCTION_ID, healthy);
+
+        sseBroadcaster.deliver(AUCTION_ID, "1", "first");
+        assertTrue(slow.started.await(1, TimeUnit.SECONDS));
+        // 쓰는 중인 1개 + 큐 2개를 넘기면 제거
+        for (int i = 2; i <= 4; i++) {
+            sseBroadcaster.deliver(AUCTION_ID, String.valueOf(i), "event");
+        }
+        await(() -> emitterRepository.get(AUCTION_ID).size() == 1);
+        assertFalse(slow.completed);
+
+        slow.release.countDown();
+        await(() -> slow.completed);
+        await(() -> healthy.sent.size() == 4);
+        assertFalse(healthy.completed);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "시간 안에 조건을 만족하지 못함");
+            Thread.sleep(10);
+        }
+    }
+
+    // release 전까지 전송이 막히는 구독자
+    private static class BlockingEmitter extends SseEmitter {
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private volatile boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                release.await();
+                sent.add(items);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import com.turtlecoin.auctionservice.global.config.RedisScriptTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 마감된 경매의 종료 처리 lease(close_claim/complete/release.lua)를 한 서버만 얻고,
+// 실패하거나 lease 가 만료되면 다른 서버가 이어받는지 확인
+class AuctionCloseCoordinatorTest extends RedisScriptTestSupport {
+    private static final Long AUCTION_ID = 1L;
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_END_KEY = "auction_end_" + AUCTION_ID;
+    private static final String AUCTION_CLOSE_KEY = "auction_close_" + AUCTION_ID;
+
+    @BeforeEach
+    void deadlinePassed() {
+        long now = redisTime();
+        redisTemplate.opsForZSet().add(AUCTION_DEADLINES_KEY, AUCTION_ID.toString(), now - 1);
+        redisTemplate.opsForHash().put(AuctionClock.AUCTION_END_TIMES_KEY, AUCTION_ID.toString(), String.valueOf(now - 1));
+    }
+
+    @Test
+    void 마감된_경매의_lease_는_한_서버만_얻는다() {
+        AuctionCloseCoordinator first = coordinator("first", 30_000);
+        AuctionCloseCoordinator second = coordinator("second", 30_000);
+
+        assertTrue(first.tryClaim(AUCTION_ID));
+        assertFalse(second.tryClaim(AUCTION_ID));
+    }
+
+    @Test
+    void 입찰로_마감이_연장된_경매는_lease_를_얻지_못한다() {
+        redisTemplate.opsForValue().set(AUCTION_END_KEY, "ready", 10_000, TimeUnit.MILLISECONDS);
+
+        assertFalse(coordinator("first", 30_000).tryClaim(AUCTION_ID));
+        assertNull(redisTemplate.opsForValue().get(AUCTION_CLOSE_KEY));
+    }
+
+    @Test
+    void 종료_처리를_마치면_마감_목록에서_빠지고_다시_종료되지_않는다() {
+        AuctionCloseCoordinator first = coordinator("first", 30_000);
+        assertTrue(first.tryClaim(AUCTION_ID));
+
+        first.complete(AUCTION_ID);
+
+        assertNull(redisTemplate.opsForZSet().score(AUCTION_DEADLINES_KEY, AUCTION_ID.toString()));
+        assertFalse(redisTemplate.opsForHash().hasKey(AuctionClock.AUCTION_END_TIMES_KEY, AUCTION_ID.toString()));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(AUCTION_CLOSE_KEY)));
+        assertFalse(coordinator("second", 30_000).tryClaim(AUCTION_ID));
+    }
+
+    @Test
+    void 종료_처리에_실패해_lease_를_반납하면_다른_서버가_이어받는다() {
+        AuctionCloseCoordinator first = coordinator("first", 30_000);
+        AuctionCloseCoordinator second = coordinator("second", 30_000);
+        assertTrue(first.tryClaim(AUCTION_ID));
+
+        first.release(AUCTION_ID);
+
+        assertTrue(second.tryClaim(AUCTION_ID));
+    }
+
+    @Test
+    void lease_가_만료되면_다른_서버가_이어받고_늦게_끝난_서버는_그_lease_를_지우지_않는다() throws InterruptedException {
+        AuctionCloseCoordinator first = coordinator("first", 200);
+        AuctionCloseCoordinator second = coordinator("second", 30_000);
+        assertTrue(first.tryClaim(AUCTION_ID));
+        assertFalse(second.tryClaim(AUCTION_ID));
+
+        Thread.sleep(400);
+
+        assertTrue(second.tryClaim(AUCTION_ID));
+        first.release(AUCTION_ID);
+        first.complete(AUCTION_ID);
+        assertTrue(String.valueOf(redisTemplate.opsForValue().get(AUCTION_CLOSE_KEY)).startsWith("second:"));
+    }
+
+    private AuctionCloseCoordinator coordinator(String instanceId, long leaseMillis) {
+        AuctionCloseCoordinator coordinator = new AuctionCloseCoordinator(redisTemplate,
+                script("scripts/close_claim.lua", Long.class),
+                script("scripts/close_complete.lua", Long.class),
+                script("scripts/close_release.lua", Long.class),
+                instanceId);
+        ReflectionTestUtils.setField(coordinator, "leaseMillis", leaseMillis);
+        return coordinator;
+    }
+}
@@ -0,0 +1,122 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
+import com.turtlecoin.auctionservice.domain.auction.sequencer.BidSequencer;
+import com.turtlecoin.auctionservice.domain.auction.service.SendService;
+import com.turtlecoin.auctionservice.global.config.RedisScriptTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 실제 Redis 의 마감 정보(auction_deadlines, auction_end_{id})로 sweep 과 타이밍 휠 마감 처리를 확인
+class AuctionDeadlineSchedulerTest extends RedisScriptTestSupport {
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+
+    private SendService sendService;
+    private AuctionCloseCoordinator closeCoordinator;
+    private SimpMessagingTemplate messagingTemplate;
+    private LiveAuctionRegistry liveAuctionRegistry;
+    private BidSequencer bidSequencer;
+    private ThreadPoolTaskExecutor closeExecutor;
+    private AuctionDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        sendService = mock(SendService.class);
+        closeCoordinator = mock(AuctionCloseCoordinator.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        liveAuctionRegistry = mock(LiveAuctionRegistry.class);
+        bidSequencer = mock(BidSequencer.class);
+        closeExecutor = new ThreadPoolTaskExecutor();
+        closeExecutor.initialize();
+        when(closeCoordinator.tryClaim(anyLong())).thenReturn(true);
+
+        scheduler = new AuctionDeadlineScheduler(redisTemplate, sendService, closeCoordinator, messagingTemplate,
+                mock(TaskScheduler.class), closeExecutor, mock(AuctionClock.class), liveAuctionRegistry, bidSequencer);
+        ReflectionTestUtils.setField(scheduler, "sweepIntervalMillis", 1000L);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+        closeExecutor.shutdown();
+    }
+
+    @Test
+    void sweep_은_다른_서버에서_등록한_곧_마감될_경매만_예약하고_마감되면_종료한다() {
+        long now = redisTime();
+        deadline(1L, now + 100);
+        deadline(2L, now + 60_000);
+
+        ReflectionTestUtils.invokeMethod(scheduler, "sweep");
+
+        Map<?, ?> entries = (Map<?, ?>) ReflectionTestUtils.getField(scheduler, "entries");
+        assertFalse(entries.containsKey(2L));
+        verify(liveAuctionRegistry).evictClosed(Set.of(1L, 2L));
+        verify(bidSequencer).evictClosed(Set.of(1L, 2L));
+        verify(sendService, timeout(2000)).endAuction(1L);
+        verify(closeCoordinator, timeout(2000)).complete(1L);
+        verify(sendService, never()).endAuction(2L);
+    }
+
+    @Test
+    void sweep_은_이미_지난_마감도_바로_종료한다() {
+        deadline(1L, redisTime() - 5_000);
+
+        ReflectionTestUtils.invokeMethod(scheduler, "sweep");
+
+        verify(sendService, timeout(2000)).endAuction(1L);
+    }
+
+    @Test
+    void 마감_전에_입찰로_연장되면_다시_예약하고_연장된_시각에_종료한다() {
+        scheduler.registerAll(List.of(1L), 200);
+        assertTrue(Boolean.TRUE.equals(redisTemplate.hasKey(AUCTION_END_KEY_PREFIX + 1L)));
+
+        // 다른 서버의 입찰 스크립트가 마감 키 TTL 을 늘린 상황
+        redisTemplate.expire(AUCTION_END_KEY_PREFIX + 1L, 600, TimeUnit.MILLISECONDS);
+
+        verify(closeCoordinator, after(400).never()).tryClaim(1L);
+        verify(sendService, timeout(2000)).endAuction(1L);
+        verify(closeCoordinator, timeout(2000)).complete(1L);
+    }
+
+    @Test
+    void lease_를_얻지_못하면_종료하지_않는다() {
+        when(closeCoordinator.tryClaim(1L)).thenReturn(false);
+        scheduler.registerAll(List.of(1L), 50);
+
+        verify(closeCoordinator, timeout(2000)).tryClaim(1L);
+        verify(sendService, after(200).never()).endAuction(1L);
+    }
+
+    @Test
+    void 종료_처리에_실패하면_lease_를_반납하고_실패를_알린다() {
+        doThrow(new IllegalStateException("db down")).when(sendService).endAuction(1L);
+        scheduler.registerAll(List.of(1L), 50);
+
+        verify(closeCoordinator, timeout(2000)).release(1L);
+        verify(closeCoordinator, never()).complete(1L);
+        verify(messagingTemplate, timeout(2000)).convertAndSend(eq("/sub/auction/1"), any(Object.class));
+    }
+
+    private void deadline(Long auctionId, long endTime) {
+        redisTemplate.opsForZSet().add(AUCTION_DEADLINES_KEY, auctionId.toString(), endTime);
+        redisTemplate.opsForHash().put(AuctionClock.AUCTION_END_TIMES_KEY, auctionId.toString(), String.valueOf(endTime));
+    }
+}
@@ -0,0 +1,73 @@
+package com.turtlecoin.auctionservice.domain.auction.deadline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// tick 10ms, 4칸 휠 (한 바퀴 40ms, 상위 휠 한 칸 40ms)
+class TimingWheelTest {
+    private static final long START_MS = 1_000;
+
+    private DelayQueue<TimerBucket> queue;
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        queue = new DelayQueue<>();
+        timingWheel = new TimingWheel(10, 4, START_MS, queue);
+    }
+
+    @Test
+    void 현재_tick_안에_마감되는_예약은_등록하지_않고_바로_실행하게_한다() {
+        assertFalse(timingWheel.add(new DeadlineEntry(1L, START_MS + 5)));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void 같은_tick_에_마감되는_예약은_한_버킷에_모인다() {
+        assertTrue(timingWheel.add(new DeadlineEntry(1L, START_MS + 21)));
+        assertTrue(timingWheel.add(new DeadlineEntry(2L, START_MS + 28)));
+
+        assertEquals(1, queue.size());
+        TimerBucket bucket = queue.peek();
+        assertEquals(START_MS + 20, bucket.getExpiration());
+
+        List<Long> flushed = new ArrayList<>();
+        bucket.flush(entry -> flushed.add(entry.getAuctionId()));
+        assertEquals(List.of(1L, 2L), flushed);
+        assertEquals(-1L, bucket.getExpiration());
+    }
+
+    @Test
+    void 한_바퀴보다_먼_예약은_상위_휠에_있다가_만료되면_하위_휠로_내려온다() {
+        DeadlineEntry entry = new DeadlineEntry(1L, START_MS + 100);
+        assertTrue(timingWheel.add(entry));
+
+        // 상위 휠은 40ms 단위로 묶는다.
+        TimerBucket overflowBucket = queue.poll();
+        assertNotNull(overflowBucket);
+        assertEquals(START_MS + 80, overflowBucket.getExpiration());
+
+        timingWheel.advanceClock(overflowBucket.getExpiration());
+        overflowBucket.flush(reinserted -> assertTrue(timingWheel.add(reinserted)));
+
+        TimerBucket bucket = queue.poll();
+        assertNotNull(bucket);
+        assertEquals(START_MS + 100, bucket.getExpiration());
+    }
+
+    @Test
+    void 시계가_마감_시각을_지나면_다시_넣은_예약은_바로_실행된다() {
+        DeadlineEntry entry = new DeadlineEntry(1L, START_MS + 30);
+        assertTrue(timingWheel.add(entry));
+
+        timingWheel.advanceClock(START_MS + 30);
+
+        assertFalse(timingWheel.add(entry));
+    }
+}
@@ -0,0 +1,107 @@
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.turtlecoin.auctionservice.domain.auction.dto.AuctionSearchCondition;
+import com.turtlecoin.auctionservice.domain.auction.dto.DetailAuctionResponseDTO;
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionPhoto;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionTag;
+import com.turtlecoin.auctionservice.global.config.QuerydslConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 목록 조회 시 경매 수와 상관없이 쿼리 수가 일정한지 확인 (태그/사진 지연 로딩 N+1 방지)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AuctionRepositoryCustomImplTest {
+    private static final int PAGE_SIZE = 20;
+    private static final Long USER_ID = 1L;
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Auction.class)
+    @EnableJpaRepositories(basePackageClasses = AuctionRepository.class)
+    @Import(QuerydslConfig.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Auction auction = Auction.builder()
+                    .userId(USER_ID)
+                    .title("경매 " + i)
+                    .minBid(10000.0)
+                    .startTime(startTime.plusMinutes(i))
+                    .content("내용")
+                    .weight(100)
+                    .auctionProgress(AuctionProgress.BEFORE_AUCTION)
+                    .turtleId((long) i)
+                    .build();
+            auction.getAuctionTags().add(new AuctionTag(auction, "태그1"));
+            auction.getAuctionTags().add(new AuctionTag(auction, "태그2"));
+            auction.getAuctionPhotos().add(AuctionPhoto.builder().auction(auction).imageAddress("image-" + i + "-1").build());
+            auction.getAuctionPhotos().add(AuctionPhoto.builder().auction(auction).imageAddress("image-" + i + "-2").build());
+            em.persist(auction);
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 목록_페이지는_경매_수와_상관없이_3번_조회한다() {
+        List<DetailAuctionResponseDTO> auctions =
+                auctionRepository.findPageByCondition(AuctionSearchCondition.builder().build(), 0, PAGE_SIZE);
+
+        assertEquals(PAGE_SIZE, auctions.size());
+        auctions.forEach(dto -> {
+            assertEquals(List.of("태그1", "태그2"), dto.getAuctionTag());
+            assertEquals(2, dto.getAuctionImage().size());
+        });
+        // 경매 목록 + 태그 + 사진
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 내_경매_조회는_경매_수와_상관없이_3번_조회한다() {
+        List<Auction> auctions = auctionRepository.findAllByUser(USER_ID);
+        List<Long> auctionIds = auctions.stream().map(Auction::getId).toList();
+        Map<Long, List<String>> tags = auctionRepository.findTagsByAuctionIds(auctionIds);
+        Map<Long, List<String>> images = auctionRepository.findThumbnailAddressesByAuctionIds(auctionIds);
+
+        assertEquals(PAGE_SIZE, auctions.size());
+        auctions.forEach(auction -> {
+            assertEquals(List.of("태그1", "태그2"), tags.get(auction.getId()));
+            assertTrue(images.get(auction.getId()).get(0).endsWith("-1"));
+        });
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,54 @@
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.global.config.QuerydslConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 경매 종료 상태 변경이 진행 중(DURING_AUCTION)일 때 한 번만 반영되는지 확인
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+class AuctionRepositoryTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = Auction.class)
+    @EnableJpaRepositories(basePackageClasses = AuctionRepository.class)
+    @Import(QuerydslConfig.class)
+    static class TestConfig {
+    }
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    void 진행_중인_경매만_종료_상태로_바꾸고_두_번째_변경은_무시한다() {
+        Auction auction = Auction.builder()
+                .userId(1L)
+                .title("경매")
+                .minBid(10000.0)
+                .startTime(LocalDateTime.now().minusMinutes(1))
+                .content("내용")
+                .weight(100)
+                .auctionProgress(AuctionProgress.DURING_AUCTION)
+                .turtleId(1L)
+                .build();
+        em.persistAndFlush(auction);
+
+        assertEquals(1, auctionRepository.updateProgressIfMatches(auction.getId(), AuctionProgress.DURING_AUCTION, AuctionProgress.SUCCESSFUL_BID));
+        assertEquals(0, auctionRepository.updateProgressIfMatches(auction.getId(), AuctionProgress.DURING_AUCTION, AuctionProgress.NO_BID));
+        assertEquals(AuctionProgress.SUCCESSFUL_BID, auctionRepository.findById(auction.getId()).orElseThrow().getAuctionProgress());
+    }
+}
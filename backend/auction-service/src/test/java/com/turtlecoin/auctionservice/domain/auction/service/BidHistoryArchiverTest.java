@@ -0,0 +1,119 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 적재에 실패한 기록을 pending 목록에서 다시 읽는지, 읽을 수 없는 기록은 옮기고 넘어가는지,
+// consumer group 생성 오류를 BUSYGROUP 만 무시하는지 확인
+class BidHistoryArchiverTest {
+    private static final String AUCTION_BID_LEDGER_KEY = "auction_bid_ledger";
+    private static final String AUCTION_BID_LEDGER_DEAD_KEY = "auction_bid_ledger_dead";
+    private static final String ARCHIVER_GROUP = "bid-history-archiver";
+
+    private StreamOperations<String, Object, Object> streamOperations;
+    private JdbcTemplate jdbcTemplate;
+    private BidHistoryArchiver archiver;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        streamOperations = mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        archiver = new BidHistoryArchiver(redisTemplate, jdbcTemplate);
+        ReflectionTestUtils.setField(archiver, "batchSize", 500);
+        ReflectionTestUtils.setField(archiver, "flushIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(archiver, "consumerName", "auction-service-test");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 적재에_실패한_기록은_pending_목록부터_다시_읽고_ack_한다() {
+        MapRecord<String, Object, Object> record = StreamRecords.newRecord()
+                .in(AUCTION_BID_LEDGER_KEY)
+                .withId(RecordId.of("1-0"))
+                .ofMap(Map.<Object, Object>of("auctionId", "1", "seq", "1", "userId", "2", "bidAmount", "10000.0", "bidTime", "0"));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of())        // pending 없음 -> 새 기록부터
+                .thenReturn(List.of(record))  // 새 기록 수신, 적재 실패
+                .thenReturn(List.of(record)); // pending 에서 다시 수신
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any()))
+                .thenThrow(new DataAccessResourceFailureException("db down"))
+                .thenReturn(new int[][]{{1}});
+
+        assertTrue(archiver.poll());
+        assertFalse(archiver.poll());
+        assertTrue(archiver.poll());
+
+        ArgumentCaptor<StreamOffset<String>> offsets = ArgumentCaptor.forClass(StreamOffset.class);
+        verify(streamOperations, times(3)).read(any(Consumer.class), any(StreamReadOptions.class), offsets.capture());
+        List<StreamOffset<String>> read = offsets.getAllValues();
+        assertEquals("0", read.get(0).getOffset().getOffset());
+        assertEquals(">", read.get(1).getOffset().getOffset());
+        assertEquals("0", read.get(2).getOffset().getOffset());
+        verify(streamOperations, times(1)).acknowledge(AUCTION_BID_LEDGER_KEY, ARCHIVER_GROUP, RecordId.of("1-0"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 필드가_빠졌거나_숫자가_아닌_기록은_dead_stream_으로_옮기고_ack_한다() {
+        MapRecord<String, Object, Object> valid = record("1-0",
+                Map.<Object, Object>of("auctionId", "1", "seq", "1", "userId", "2", "bidAmount", "10000.0", "bidTime", "0"));
+        MapRecord<String, Object, Object> missing = record("2-0", Map.of());
+        MapRecord<String, Object, Object> unparsable = record("3-0",
+                Map.<Object, Object>of("auctionId", "1", "seq", "2", "userId", "2", "bidAmount", "abc", "bidTime", "0"));
+        when(streamOperations.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .thenReturn(List.of(valid, missing, unparsable))
+                .thenReturn(List.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any())).thenReturn(new int[][]{{1}});
+
+        assertTrue(archiver.poll());
+        assertTrue(archiver.poll());
+
+        ArgumentCaptor<List<?>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), rows.capture(), anyInt(), any());
+        assertEquals(1, rows.getValue().size());
+
+        ArgumentCaptor<Map<Object, Object>> deadLetters = ArgumentCaptor.forClass(Map.class);
+        verify(streamOperations, times(2)).add(eq(AUCTION_BID_LEDGER_DEAD_KEY), deadLetters.capture());
+        assertEquals(List.of("2-0", "3-0"), deadLetters.getAllValues().stream().map(fields -> fields.get("ledgerId")).toList());
+
+        RecordId[] ids = {RecordId.of("1-0"), RecordId.of("2-0"), RecordId.of("3-0")};
+        verify(streamOperations).acknowledge(AUCTION_BID_LEDGER_KEY, ARCHIVER_GROUP, ids);
+        verify(streamOperations).delete(AUCTION_BID_LEDGER_KEY, ids);
+    }
+
+    @Test
+    void consumer_group_생성은_BUSYGROUP_만_무시한다() {
+        when(streamOperations.createGroup(anyString(), any(ReadOffset.class), anyString()))
+                .thenThrow(new RedisSystemException("error", new RuntimeException("BUSYGROUP Consumer Group name already exists")))
+                .thenThrow(new RedisSystemException("error", new RuntimeException("WRONGTYPE Operation against a key holding the wrong kind of value")));
+
+        assertDoesNotThrow(() -> archiver.createGroupIfAbsent());
+        assertThrows(RedisSystemException.class, () -> archiver.createGroupIfAbsent());
+    }
+
+    private MapRecord<String, Object, Object> record(String id, Map<Object, Object> fields) {
+        return StreamRecords.newRecord()
+                .in(AUCTION_BID_LEDGER_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(fields);
+    }
+}
@@ -0,0 +1,128 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.global.config.RedisScriptTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 입찰 스크립트(bid.lua)를 실제 Redis 에서 실행해서 검증 순서, 마감 연장, 입찰 기록을 확인
+class BidScriptTest extends RedisScriptTestSupport {
+    private static final Long AUCTION_ID = 1L;
+    private static final Long SELLER_ID = 1L;
+    private static final long EXTEND_MS = 30_000;
+    private static final long VERSION_TTL_MS = 60_000;
+
+    private static final String AUCTION_BID_KEY = "auction_bid_" + AUCTION_ID;
+    private static final String AUCTION_END_KEY = "auction_end_" + AUCTION_ID;
+    private static final String AUCTION_BID_LOG_KEY = "auction_bid_log_" + AUCTION_ID;
+    private static final String AUCTION_BID_LEDGER_KEY = "auction_bid_ledger";
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_END_TIMES_KEY = "auction_end_times";
+    private static final String AUCTION_VERSION_KEY = "auction_version_" + AUCTION_ID;
+
+    private static final RedisScript<List> BID_SCRIPT = script("scripts/bid.lua", List.class);
+
+    @Test
+    void 판매자_입찰은_다른_검사보다_먼저_거절된다() {
+        highestBid(2L, 10000.0);
+
+        assertEquals("OWN_AUCTION", bid(SELLER_ID, 5000.0).get(0));
+        assertEquals("2", redisTemplate.opsForHash().get(AUCTION_BID_KEY, "userId"));
+    }
+
+    @Test
+    void 최고_입찰자의_재입찰은_금액과_마감_여부보다_먼저_거절된다() {
+        highestBid(2L, 10000.0);
+
+        List<?> result = bid(2L, 5000.0);
+
+        assertEquals("SAME_USER", result.get(0));
+        assertEquals("10000", result.get(1));
+    }
+
+    @Test
+    void 현재가_이하_입찰은_마감_여부보다_먼저_거절된다() {
+        highestBid(2L, 10000.0);
+
+        assertEquals("TOO_LOW", bid(3L, 10000.0).get(0));
+    }
+
+    @Test
+    void 마감_키가_없으면_입찰이_반영되지_않는다() {
+        highestBid(2L, 10000.0);
+
+        List<?> result = bid(3L, 20000.0);
+
+        assertEquals("EXPIRED", result.get(0));
+        assertEquals("-2", result.get(2));
+        assertEquals("2", redisTemplate.opsForHash().get(AUCTION_BID_KEY, "userId"));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(AUCTION_BID_LOG_KEY)));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(AUCTION_BID_LEDGER_KEY)));
+    }
+
+    @Test
+    void 입찰이_반영되면_마감이_연장되고_상세_캐시_버전이_올라간다() {
+        highestBid(2L, 10000.0);
+        redisTemplate.opsForValue().set(AUCTION_END_KEY, "ready", 5_000, TimeUnit.MILLISECONDS);
+
+        long before = redisTime();
+        List<?> result = bid(3L, 20000.0);
+        long after = redisTime();
+
+        assertEquals("ACCEPTED", result.get(0));
+        assertEquals("20000.0", result.get(1));
+        assertEquals(String.valueOf(EXTEND_MS), result.get(2));
+        long endTime = Long.parseLong(String.valueOf(result.get(4)));
+        assertTrue(endTime >= before + EXTEND_MS && endTime <= after + EXTEND_MS);
+
+        assertTrue(redisTemplate.getExpire(AUCTION_END_KEY, TimeUnit.MILLISECONDS) > 5_000);
+        assertEquals(endTime, redisTemplate.opsForZSet().score(AUCTION_DEADLINES_KEY, AUCTION_ID.toString()).longValue());
+        assertEquals(String.valueOf(endTime), redisTemplate.opsForHash().get(AUCTION_END_TIMES_KEY, AUCTION_ID.toString()));
+
+        Map<Object, Object> highest = redisTemplate.opsForHash().entries(AUCTION_BID_KEY);
+        assertEquals("3", highest.get("userId"));
+        assertEquals("20000.0", highest.get("bidAmount"));
+        assertEquals("21000.0", highest.get("nextBid"));
+
+        assertEquals("1", redisTemplate.opsForValue().get(AUCTION_VERSION_KEY));
+        assertTrue(redisTemplate.getExpire(AUCTION_VERSION_KEY, TimeUnit.MILLISECONDS) > 0);
+    }
+
+    @Test
+    void 입찰_순번은_경매별_기록_id_가_되고_적재_대기_stream_에도_남는다() {
+        redisTemplate.opsForValue().set(AUCTION_END_KEY, "ready", 5_000, TimeUnit.MILLISECONDS);
+
+        assertEquals("1", bid(2L, 10000.0).get(3));
+        assertEquals("2", bid(3L, 20000.0).get(3));
+
+        List<MapRecord<String, Object, Object>> log = redisTemplate.opsForStream().range(AUCTION_BID_LOG_KEY, Range.unbounded());
+        assertEquals(List.of("0-1", "0-2"), log.stream().map(record -> record.getId().getValue()).toList());
+        assertEquals("3", log.get(1).getValue().get("userId"));
+        assertEquals("20000.0", log.get(1).getValue().get("bidAmount"));
+
+        List<MapRecord<String, Object, Object>> ledger = redisTemplate.opsForStream().range(AUCTION_BID_LEDGER_KEY, Range.unbounded());
+        assertEquals(2, ledger.size());
+        assertEquals(AUCTION_ID.toString(), ledger.get(0).getValue().get("auctionId"));
+        assertEquals(List.of("1", "2"), ledger.stream().map(record -> record.getValue().get("seq")).toList());
+        assertEquals(log.get(1).getValue().get("bidTime"), ledger.get(1).getValue().get("bidTime"));
+    }
+
+    private void highestBid(Long userId, Double bidAmount) {
+        redisTemplate.opsForHash().putAll(AUCTION_BID_KEY, Map.of("userId", userId.toString(), "bidAmount", bidAmount.toString()));
+    }
+
+    private List<?> bid(Long userId, Double bidAmount) {
+        return redisTemplate.execute(BID_SCRIPT,
+                List.of(AUCTION_BID_KEY, AUCTION_END_KEY, AUCTION_BID_LOG_KEY, AUCTION_BID_LEDGER_KEY,
+                        AUCTION_DEADLINES_KEY, AUCTION_END_TIMES_KEY, AUCTION_VERSION_KEY),
+                userId.toString(), bidAmount.toString(), String.valueOf(bidAmount + 1000), SELLER_ID.toString(),
+                String.valueOf(EXTEND_MS), AUCTION_ID.toString(), String.valueOf(VERSION_TTL_MS));
+    }
+}
@@ -0,0 +1,106 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.domain.auction.broadcast.BidBroadcastCoalescer;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionResponseCache;
+import com.turtlecoin.auctionservice.domain.auction.deadline.AuctionClock;
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.auction.live.LiveAuctionRegistry;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.sequencer.BidSequencer;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 경매 종료 메시지와 결과 전송이 커밋 후에만 나가고, 이미 종료된 경매는 다시 보내지 않는지 확인
+class SendServiceTest {
+    private static final Long AUCTION_ID = 1L;
+    private static final Long WINNER_ID = 2L;
+
+    private RabbitTemplate rabbitTemplate;
+    private AuctionRepository auctionRepository;
+    private SimpMessagingTemplate messagingTemplate;
+    private BidSequencer bidSequencer;
+    private SendService sendService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        auctionRepository = mock(AuctionRepository.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        bidSequencer = mock(BidSequencer.class);
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("auction_bid_" + AUCTION_ID))
+                .thenReturn(Map.of("userId", WINNER_ID.toString(), "bidAmount", "20000.0"));
+        UserService userService = mock(UserService.class);
+        when(userService.getUserNicknameById(WINNER_ID)).thenReturn("낙찰자");
+
+        sendService = new SendService(rabbitTemplate, auctionRepository, messagingTemplate, redisTemplate, userService,
+                bidSequencer, mock(BidBroadcastCoalescer.class), mock(AuctionClock.class),
+                mock(AuctionResponseCache.class), mock(LiveAuctionRegistry.class));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void 종료_메시지와_낙찰_결과는_커밋_후에_보낸다() {
+        when(auctionRepository.updateProgressIfMatches(AUCTION_ID, AuctionProgress.DURING_AUCTION, AuctionProgress.SUCCESSFUL_BID))
+                .thenReturn(1);
+        when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(auction()));
+
+        sendService.endAuction(AUCTION_ID);
+
+        verifyNoInteractions(messagingTemplate, rabbitTemplate, bidSequencer);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(bidSequencer).remove(AUCTION_ID);
+        verify(messagingTemplate).convertAndSend(eq("/sub/auction/" + AUCTION_ID), any(Object.class));
+        verify(rabbitTemplate).convertAndSend(eq("auction.result.exchange"), eq("auction.result.key"), any(Object.class));
+    }
+
+    @Test
+    void 이미_종료된_경매는_아무것도_보내지_않는다() {
+        when(auctionRepository.updateProgressIfMatches(AUCTION_ID, AuctionProgress.DURING_AUCTION, AuctionProgress.SUCCESSFUL_BID))
+                .thenReturn(0);
+
+        sendService.endAuction(AUCTION_ID);
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        verifyNoInteractions(messagingTemplate, rabbitTemplate, bidSequencer);
+    }
+
+    private Auction auction() {
+        return Auction.builder()
+                .id(AUCTION_ID)
+                .userId(3L)
+                .title("경매")
+                .minBid(10000.0)
+                .content("내용")
+                .weight(100)
+                .auctionProgress(AuctionProgress.SUCCESSFUL_BID)
+                .turtleId(1L)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +24,7 @@ import com.turtlecoin.mainservice.domain.user.util.JWTUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -35,6 +37,7 @@ public class SseController {
 
 	@GetMapping(value = "/sse/subscribe/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	public ResponseEntity<SseEmitter> subscribe(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
+		String lastEventId = headers.getFirst("Last-Event-ID");
 		try{
 			String token = headers.getFirst("Authorization");
 			Long userId = jwtUtil.getIdFromToken(token.substring(7));
@@ -45,7 +48,7 @@ public class SseController {
 
 			if(id.equals(userId)) {
 				log.info(userId + "가 SSE 연결을 시도했습니다!");
-				return new ResponseEntity<>(sseService.subscribe(id), responseHeader, HttpStatus.OK);
+				return new ResponseEntity<>(sseService.subscribe(id, lastEventId), responseHeader, HttpStatus.OK);
 			}
 			else{
 				return null;
@@ -57,6 +60,24 @@ public class SseController {
 		// return sseService.subscribe(id);
 	}
 
+	// Flux 스트림 구독, subscribe 와 같은 이벤트를 받는다.
+	@GetMapping(value = "/sse/stream/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<Flux<ServerSentEvent<String>>> stream(@PathVariable Long id, @RequestHeader HttpHeaders headers) {
+		try {
+			String token = headers.getFirst("Authorization");
+			if (!id.equals(jwtUtil.getIdFromToken(token.substring(7)))) {
+				return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+			}
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		HttpHeaders responseHeader = new HttpHeaders();
+		responseHeader.add("Cache-Control", "no-cache");
+		responseHeader.add("X-Accel-Buffering", "no");
+		return new ResponseEntity<>(sseService.stream(id, headers.getFirst("Last-Event-ID")), responseHeader, HttpStatus.OK);
+	}
+
 	@PostMapping("/send-data/{id}")
 	public void sendData(@PathVariable Long id) {
 		sseService.notify(id, "data");
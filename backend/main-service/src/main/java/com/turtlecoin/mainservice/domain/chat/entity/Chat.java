@@ -20,6 +20,9 @@ public class Chat {
 	private ObjectId id;
 	private List<Long> participants;
 	private ChatTextMessage recentMessage;
+	// 메세지는 chat_message 에 버킷으로 저장하고, 여기에는 지금까지 보낸 메세지 수만 둔다.
+	private Long messageCount;
+	// 버킷 저장 이전 데이터, ChatMessageMigrator 가 옮긴 뒤 제거한다.
 	private List<ChatMessage> messages;
 	private List<Integer> unreadCount;
 }
@@ -1,4 +1,6 @@
 package com.turtlecoin.mainservice.domain.chat.entity;
 
 public interface ChatMessage {
+	// 채팅방 안에서 보낸 순서 (0부터), 버킷 안의 위치가 아니라 이 값으로 정렬한다.
+	Long getSeq();
 }
@@ -0,0 +1,29 @@
+package com.turtlecoin.mainservice.domain.chat.entity;
+
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 채팅방의 메세지를 SIZE 개씩 나눠 저장하는 문서
+// 메세지 순번(0부터)이 n 이면 seq = n / SIZE 인 버킷에 보낸 순서대로 들어간다.
+@Document(collection = "chat_message")
+@Getter
+@Builder
+@AllArgsConstructor
+public class ChatMessageBucket {
+	// 기존 버킷과 순번 계산이 어긋나므로 바꾸지 않는다.
+	public static final int SIZE = 100;
+
+	@Id
+	private ObjectId id;
+	private ObjectId chatId;
+	private Long seq;
+	private Integer count;
+	private List<ChatMessage> messages;
+}
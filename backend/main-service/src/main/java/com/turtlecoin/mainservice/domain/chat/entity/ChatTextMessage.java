@@ -15,6 +15,7 @@ import lombok.Getter;
 public class ChatTextMessage implements ChatMessage {
 	@Id
 	private ObjectId id;
+	private Long seq;
 	private Long sender;
 	private String registTime;
 	private String text;
@@ -2,6 +2,8 @@ package com.turtlecoin.mainservice.domain.chat.repository;
 
 import java.util.List;
 
+import org.bson.types.ObjectId;
+
 import com.turtlecoin.mainservice.domain.chat.entity.Chat;
 import com.turtlecoin.mainservice.domain.chat.entity.ChatMessage;
 import com.turtlecoin.mainservice.domain.chat.entity.ChatTextMessage;
@@ -10,6 +12,8 @@ public interface CustomChatRepository {
 
 	void insertByParticipant(Long smallUserId, Long bigUserId, ChatMessage chatMessage);
 
+	void saveBucket(ObjectId chatId, long bucketSeq, List<ChatMessage> messages, long firstSeq);
+
 	void updateRecentChatting(Long smallUserId, Long bigUserId, ChatTextMessage chatMessage);
 
 	Chat getChat(Long smallUserId, Long bigUserId);
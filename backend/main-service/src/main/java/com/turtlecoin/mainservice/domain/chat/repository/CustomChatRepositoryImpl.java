@@ -1,9 +1,16 @@
 package com.turtlecoin.mainservice.domain.chat.repository;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
@@ -12,6 +19,7 @@ import org.springframework.stereotype.Repository;
 
 import com.turtlecoin.mainservice.domain.chat.entity.Chat;
 import com.turtlecoin.mainservice.domain.chat.entity.ChatMessage;
+import com.turtlecoin.mainservice.domain.chat.entity.ChatMessageBucket;
 import com.turtlecoin.mainservice.domain.chat.entity.ChatTextMessage;
 
 import lombok.RequiredArgsConstructor;
@@ -21,11 +29,44 @@ import lombok.RequiredArgsConstructor;
 public class CustomChatRepositoryImpl implements CustomChatRepository {
 	private final MongoTemplate mongoTemplate;
 
+	// 채팅방에서 순번을 하나 받고, 그 순번이 속한 버킷 하나에만 추가한다.
+	// 대화가 길어져도 채팅방 문서는 커지지 않고 버킷 크기도 일정하므로 메세지당 쓰기 비용이 같다.
+	// 동시에 보낸 메세지는 받은 순번과 다른 순서로 추가될 수 있으므로, 메세지에 순번을 저장하고 순번으로 정렬해 둔다.
 	@Override
 	public void insertByParticipant(Long smallUserId, Long bigUserId, ChatMessage chatMessage) {
 		Query query = new Query(Criteria.where("participants").is(Arrays.asList(smallUserId, bigUserId)));
-		Update update = new Update().push("messages").atPosition(0).value(chatMessage);
-		mongoTemplate.upsert(query, update, Chat.class);
+		query.fields().include("messageCount");
+		Chat chat = mongoTemplate.findAndModify(query, new Update().inc("messageCount", 1),
+			FindAndModifyOptions.options().returnNew(true).upsert(true), Chat.class);
+
+		long seq = chat.getMessageCount() - 1;
+		Query bucketQuery = new Query(Criteria.where("chatId").is(chat.getId()).and("seq").is(seq / ChatMessageBucket.SIZE));
+		Update update = new Update().push("messages").sort(Sort.by("seq")).each(toDocument(chatMessage, seq)).inc("count", 1);
+		try {
+			mongoTemplate.upsert(bucketQuery, update, ChatMessageBucket.class);
+		} catch (DuplicateKeyException e) {
+			// 같은 버킷을 동시에 처음 만들려고 한 경우, 이제는 버킷이 있으므로 다시 추가
+			mongoTemplate.upsert(bucketQuery, update, ChatMessageBucket.class);
+		}
+	}
+
+	// 이관용, firstSeq 부터 순서대로 순번을 붙여 버킷을 덮어쓴다.
+	@Override
+	public void saveBucket(ObjectId chatId, long bucketSeq, List<ChatMessage> messages, long firstSeq) {
+		List<Document> documents = new ArrayList<>(messages.size());
+		for (int i = 0; i < messages.size(); i++) {
+			documents.add(toDocument(messages.get(i), firstSeq + i));
+		}
+		Query query = new Query(Criteria.where("chatId").is(chatId).and("seq").is(bucketSeq));
+		mongoTemplate.upsert(query, new Update().set("messages", documents).set("count", documents.size()), ChatMessageBucket.class);
+	}
+
+	// 메세지를 _class 를 포함한 문서로 바꾸고 순번을 붙인다.
+	private Document toDocument(ChatMessage chatMessage, long seq) {
+		Document document = new Document();
+		mongoTemplate.getConverter().write(chatMessage, document);
+		document.put("seq", seq);
+		return document;
 	}
 
 	@Override
@@ -46,26 +87,46 @@ public class CustomChatRepositoryImpl implements CustomChatRepository {
 		return result;
 	}
 
+	// 최신 메세지부터 page * size 번째 이후 size 개, 안 읽은 횟수 초기화와 채팅방 조회를 한 번에 한다.
 	@Override
 	public List<ChatMessage> getChatByPage(Long smallUserId, Long bigUserId, Long loginId, int page, int size){
 		Query query = new Query(Criteria.where("participants").all(Arrays.asList(smallUserId, bigUserId)));
-		query.fields().slice("messages", page*size, size);
-		Chat result = mongoTemplate.findOne(query, Chat.class);
+		query.fields().include("participants").include("messageCount");
 
-		if (result != null) {
-			if (result.getParticipants().get(0).equals(loginId)) {
-				Update update = new Update();
-				update.set("unreadCount.0", 0);
-				mongoTemplate.updateFirst(query, update, Chat.class);
-			}
-			else if (result.getParticipants().get(1).equals(loginId)) {
-				Update update = new Update();
-				update.set("unreadCount.1", 0);
-				mongoTemplate.updateFirst(query, update, Chat.class);
-			}
+		Chat result;
+		if (smallUserId.equals(loginId)) {
+			result = mongoTemplate.findAndModify(query, new Update().set("unreadCount.0", 0), Chat.class);
+		}
+		else if (bigUserId.equals(loginId)) {
+			result = mongoTemplate.findAndModify(query, new Update().set("unreadCount.1", 0), Chat.class);
+		}
+		else {
+			result = mongoTemplate.findOne(query, Chat.class);
 		}
 
-		return result != null ? result.getMessages() : null;
+		if (result == null) {
+			return null;
+		}
+		long total = result.getMessageCount() == null ? 0 : result.getMessageCount();
+		return findMessages(result.getId(), total - 1 - (long)page * size, size);
+	}
+
+	// 순번 newest 부터 과거 방향으로 size 개, 필요한 버킷(보통 1~2개)만 읽는다.
+	// 쓰는 도중 실패해 비어 있는 순번은 건너뛰므로 그 페이지만 짧아지고, 메세지가 겹치거나 빠지지는 않는다.
+	private List<ChatMessage> findMessages(ObjectId chatId, long newest, int size) {
+		if (newest < 0 || size <= 0) {
+			return new ArrayList<>();
+		}
+		long oldest = Math.max(0, newest - size + 1);
+
+		Query query = new Query(Criteria.where("chatId").is(chatId)
+			.and("seq").gte(oldest / ChatMessageBucket.SIZE).lte(newest / ChatMessageBucket.SIZE));
+
+		return mongoTemplate.find(query, ChatMessageBucket.class).stream()
+			.flatMap(bucket -> bucket.getMessages().stream())
+			.filter(message -> message.getSeq() != null && message.getSeq() >= oldest && message.getSeq() <= newest)
+			.sorted(Comparator.comparing(ChatMessage::getSeq).reversed())
+			.collect(Collectors.toList());
 	}
 
 	@Override
@@ -1,24 +1,37 @@
 package com.turtlecoin.mainservice.domain.chat.repository;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.turtlecoin.mainservice.domain.chat.service.SseConnection;
 
 @Repository
 public class EmitterRepository {
-	private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
+	// 한 사용자가 여러 탭/기기로 연결할 수 있으므로 사용자별로 connectionId -> 연결을 둔다.
+	private final Map<Long, Map<String, SseConnection>> emitters = new ConcurrentHashMap<>();
 
-	public void save(Long id, SseEmitter emitter) {
-		emitters.put(id, emitter);
+	public void save(Long userId, SseConnection connection) {
+		emitters.compute(userId, (key, connections) -> {
+			Map<String, SseConnection> saved = connections != null ? connections : new ConcurrentHashMap<>();
+			saved.put(connection.getConnectionId(), connection);
+			return saved;
+		});
 	}
 
-	public SseEmitter get(Long id) {
-		return emitters.get(id);
+	public Collection<SseConnection> get(Long userId) {
+		Map<String, SseConnection> connections = emitters.get(userId);
+		return connections != null ? connections.values() : Collections.emptyList();
 	}
 
-	public void deleteById(Long id) {
-		emitters.remove(id);
+	// 해당 연결만 삭제, 마지막 연결이면 사용자도 제거
+	public void delete(Long userId, String connectionId) {
+		emitters.computeIfPresent(userId, (key, connections) -> {
+			connections.remove(connectionId);
+			return connections.isEmpty() ? null : connections;
+		});
 	}
 }
@@ -0,0 +1,82 @@
+package com.turtlecoin.mainservice.domain.chat.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.turtlecoin.mainservice.domain.chat.entity.Chat;
+import com.turtlecoin.mainservice.domain.chat.entity.ChatMessage;
+import com.turtlecoin.mainservice.domain.chat.entity.ChatMessageBucket;
+import com.turtlecoin.mainservice.domain.chat.repository.ChatRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// chat 문서에 들어있던 messages 배열을 chat_message 버킷으로 옮긴다.
+// 이관 중에 같은 채팅방에 새 메세지가 들어오면 순번이 겹치므로, 웹 서버가 요청을 받기 전에 실행한다.
+// 기존 덤프(exec/kkobuk_main.chat.json)는 chat 컬렉션에 mongoimport 한 뒤 서버를 띄우면 옮겨진다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageMigrator implements SmartInitializingSingleton {
+	private final MongoTemplate mongoTemplate;
+	private final ChatRepository chatRepository;
+
+	@Value("${chat.message.migrate-on-startup:true}")
+	private boolean migrateOnStartup;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		mongoTemplate.indexOps(ChatMessageBucket.class)
+			.ensureIndex(new Index().on("chatId", Sort.Direction.ASC).on("seq", Sort.Direction.ASC).unique());
+		if (migrateOnStartup) {
+			migrate();
+		}
+	}
+
+	public void migrate() {
+		int migrated = 0;
+		try (Stream<Chat> chats = mongoTemplate.stream(new Query(Criteria.where("messages").exists(true)), Chat.class)) {
+			for (Chat chat : (Iterable<Chat>)chats::iterator) {
+				if (migrate(chat)) {
+					migrated++;
+				}
+			}
+		}
+		if (migrated > 0) {
+			log.info("채팅 메세지 버킷 이관 완료: {}개 채팅방", migrated);
+		}
+	}
+
+	private boolean migrate(Chat chat) {
+		if (chat.getMessageCount() != null && chat.getMessageCount() > 0) {
+			// 이관 전 버전 서버가 버킷 저장 이후에 배열에 다시 쓴 경우, 순서를 알 수 없으므로 건너뜀
+			log.warn("이미 버킷에 메세지가 있는 채팅방이라 이관하지 않음: chatId = {}", chat.getId());
+			return false;
+		}
+
+		// 배열은 최신 메세지가 앞에 있으므로 뒤집어서 보낸 순서로 나눈다.
+		List<ChatMessage> messages = chat.getMessages() == null ? new ArrayList<>() : new ArrayList<>(chat.getMessages());
+		Collections.reverse(messages);
+		for (int from = 0; from < messages.size(); from += ChatMessageBucket.SIZE) {
+			List<ChatMessage> bucket = messages.subList(from, Math.min(from + ChatMessageBucket.SIZE, messages.size()));
+			// 중간에 실패해 다시 실행해도 같은 결과가 되도록 덮어쓴다.
+			chatRepository.saveBucket(chat.getId(), from / ChatMessageBucket.SIZE, bucket, from);
+		}
+
+		mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(chat.getId())),
+			new Update().unset("messages").set("messageCount", (long)messages.size()), Chat.class);
+		return true;
+	}
+}
@@ -1,9 +1,9 @@
 package com.turtlecoin.mainservice.domain.chat.service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.bson.types.ObjectId;
@@ -21,8 +21,10 @@ import com.turtlecoin.mainservice.domain.chat.entity.ChatTurtleMessage;
 import com.turtlecoin.mainservice.domain.chat.repository.ChatRepository;
 import com.turtlecoin.mainservice.domain.transaction.entity.Transaction;
 import com.turtlecoin.mainservice.domain.transaction.service.TransactionService;
+import com.turtlecoin.mainservice.domain.user.dto.UserProfile;
 import com.turtlecoin.mainservice.domain.user.dto.UserResponseDTO;
 import com.turtlecoin.mainservice.domain.user.repository.UserRepository;
+import com.turtlecoin.mainservice.domain.user.service.UserProfileCache;
 import com.turtlecoin.mainservice.domain.user.service.UserService;
 import com.turtlecoin.mainservice.domain.transaction.exception.TransactionNotFoundException;
 import com.turtlecoin.mainservice.global.exception.InvalidChattingException;
@@ -37,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class ChatService {
 	private final ChatRepository chatRepository;
 	private final UserService userService;
+	private final UserProfileCache userProfileCache;
 	private final TransactionService transactionService;
 	private final WebSocketUtil webSocketUtil;
 
@@ -48,7 +51,7 @@ public class ChatService {
 		Chat chat = Chat.builder()
 			.participants(Arrays.asList(smallUserId, bigUserId))
 			.recentMessage(ChatTextMessage.builder().text(null).sender(null).registTime(null).build())
-			.messages(new ArrayList<>())
+			.messageCount(0L)
 			.unreadCount(Arrays.asList(0, 0))
 			.build();
 
@@ -96,25 +99,7 @@ public class ChatService {
 			throw new ChatNotFoundException("채팅을 찾을 수 없습니다.");
 		}
 
-		return chatRepository.getChatByPage(left, right,  loginId, pageable.getPageNumber(), pageable.getPageSize())
-			.stream().map((chatMessage) ->{
-				if(chatMessage instanceof ChatTextMessage) {
-					UserResponseDTO userResponseDTO = userService.getByUserId(((ChatTextMessage)chatMessage).getSender());
-					String image = userService.getProfileImageByUserId(((ChatTextMessage)chatMessage).getSender());
-
-					return ChatTextResponseDto.builder()
-						.userId(((ChatTextMessage)chatMessage).getSender())
-						.message(((ChatTextMessage)chatMessage).getText())
-						.registTime(((ChatTextMessage)chatMessage).getRegistTime())
-						.userProfile(image)
-						.nickname(userResponseDTO == null ? null : userResponseDTO.getNickname())
-						.build();
-				}
-				else{
-					return new ChatTurtleResponseDto((ChatTurtleMessage) chatMessage);
-				}
-			})
-			.collect(Collectors.toList());
+		return toResponseList(list);
 	}
 
 	// 거래에서 넘어오는 경우
@@ -137,25 +122,34 @@ public class ChatService {
 		if(chat == null){
 			createChat(left, right);
 		}
-		addChatTurtleMessage(left, right, transaction.getTitle(), transaction.getPrice(), transaction.getTransactionPhotos().get(0).getImageAddress());
+		addChatTurtleMessage(left, right, transaction.getTitle(), transaction.getPrice(), transaction.getTransactionPhotos().get(0).getThumbnailUrl());
 
 		List<ChatMessage> list = chatRepository.getChatByPage(left, right, loginId, pageable.getPageNumber(), pageable.getPageSize());
 		if(list == null){
 			throw new ChatNotFoundException("채팅을 찾을 수 없습니다.");
 		}
 
-		return chatRepository.getChatByPage(left, right, loginId, pageable.getPageNumber(), pageable.getPageSize())
+		return toResponseList(list);
+	}
+
+	// 페이지에 나온 보낸 사람들의 프로필은 한 번에 조회한다.
+	private List<ChatResponseDto> toResponseList(List<ChatMessage> list) {
+		Map<Long, UserProfile> senders = userProfileCache.getAll(list.stream()
+			.filter(ChatTextMessage.class::isInstance)
+			.map(chatMessage -> ((ChatTextMessage)chatMessage).getSender())
+			.toList());
+
+		return list
 			.stream().map((chatMessage) ->{
 				if(chatMessage instanceof ChatTextMessage) {
-					UserResponseDTO userResponseDTO = userService.getByUserId(((ChatTextMessage)chatMessage).getSender());
-					String image = userService.getProfileImageByUserId(((ChatTextMessage)chatMessage).getSender());
+					UserProfile sender = senders.get(((ChatTextMessage)chatMessage).getSender());
 
 					return ChatTextResponseDto.builder()
 						.userId(((ChatTextMessage)chatMessage).getSender())
 						.message(((ChatTextMessage)chatMessage).getText())
 						.registTime(((ChatTextMessage)chatMessage).getRegistTime())
-						.userProfile(image)
-						.nickname(userResponseDTO == null ? null : userResponseDTO.getNickname())
+						.userProfile(sender == null ? null : sender.profileImage())
+						.nickname(sender == null ? null : sender.nickname())
 						.build();
 				}
 				else{
@@ -0,0 +1,82 @@
+package com.turtlecoin.mainservice.domain.chat.service;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+// 사용자의 SSE 연결 하나 (탭, 기기마다 하나)
+// 보낼 이벤트를 연결별 큐에 쌓고 한 번에 한 스레드만 비우므로, 느린 연결이 다른 연결의 전송을 막지 않는다.
+// 큐가 가득 차면 연결을 닫고, 클라이언트는 Last-Event-ID 로 재연결해서 놓친 알림을 받는다.
+public class SseConnection {
+	@Getter
+	private final String connectionId;
+	@Getter
+	private final SseEmitter emitter;
+	private final BlockingQueue<Set<DataWithMediaType>> pending;
+	private final AtomicBoolean draining = new AtomicBoolean(false);
+	private volatile boolean closed;
+
+	public SseConnection(String connectionId, SseEmitter emitter, int bufferSize) {
+		this.connectionId = connectionId;
+		this.emitter = emitter;
+		this.pending = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	// 큐가 가득 차서 넣지 못하면 false
+	public boolean offer(Set<DataWithMediaType> event) {
+		return !closed && pending.offer(event);
+	}
+
+	// 쓰는 중인 스레드가 끝난 뒤 닫히도록 표시만 하고 비우는 작업에 맡긴다. (쓰는 중에 complete 하면 같이 막힘)
+	public void close(Executor executor) {
+		closed = true;
+		flush(executor);
+	}
+
+	// 비우는 작업이 없으면 하나 넘김
+	public void flush(Executor executor) {
+		if (!draining.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			executor.execute(() -> drain(executor));
+		} catch (RejectedExecutionException e) {
+			draining.set(false);
+		}
+	}
+
+	private void drain(Executor executor) {
+		try {
+			Set<DataWithMediaType> event;
+			while (!closed && (event = pending.poll()) != null) {
+				emitter.send(event);
+			}
+		} catch (Exception e) {
+			closed = true;
+		} finally {
+			draining.set(false);
+		}
+
+		if (closed) {
+			pending.clear();
+			try {
+				emitter.complete();
+			} catch (Exception e) {
+				// 이미 닫힌 연결
+			}
+			return;
+		}
+		// 비우는 동안 새로 들어온 이벤트
+		if (!pending.isEmpty()) {
+			flush(executor);
+		}
+	}
+}
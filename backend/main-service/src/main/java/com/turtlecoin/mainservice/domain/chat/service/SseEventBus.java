@@ -0,0 +1,89 @@
+package com.turtlecoin.mainservice.domain.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 알림 SSE 이벤트를 Redis 로 모든 main-service 서버에 전달
+// 사용자의 SSE 연결이 어느 서버에 있든 알림이 도착하도록 pub/sub 채널로 publish 하고, 각 서버는 자신이 가진 연결에만 보낸다.
+// 사용자별 stream(sse_events_user_{id})에 최근 replay-size 개를 남겨서, 재연결한 사용자는 Last-Event-ID 이후 알림을 다시 받는다.
+@Slf4j
+@Component
+public class SseEventBus implements MessageListener {
+	public static final String CHANNEL = "sse:notification";
+	private static final String EVENTS_KEY_PREFIX = "sse_events_user_";
+	private static final Pattern EVENT_ID_PATTERN = Pattern.compile("\\d+-\\d+");
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisScript<String> ssePublishScript;
+	private final SseService sseService;
+
+	@Value("${notification.sse.replay-size:50}")
+	private int replaySize;
+
+	@Value("${notification.sse.replay-ttl-ms:600000}")
+	private long replayTtlMillis;
+
+	public SseEventBus(RedisTemplate<String, String> redisTemplate,
+		RedisScript<String> ssePublishScript,
+		@Lazy SseService sseService) {
+		this.redisTemplate = redisTemplate;
+		this.ssePublishScript = ssePublishScript;
+		this.sseService = sseService;
+	}
+
+	// Redis 에 보내지 못하면 이 서버의 연결에라도 전달한다.
+	public void publish(Long userId, String data) {
+		try {
+			redisTemplate.execute(ssePublishScript, List.of(EVENTS_KEY_PREFIX + userId),
+				CHANNEL, userId.toString(), data, String.valueOf(replaySize), String.valueOf(replayTtlMillis));
+		} catch (Exception e) {
+			log.error("SSE 이벤트 publish 실패, 이 서버에만 전달합니다: userId = {}", userId, e);
+			sseService.deliver(userId, null, data);
+		}
+	}
+
+	// lastEventId 이후 이벤트 (이벤트 id -> 이벤트), 형식이 맞지 않으면 빈 값
+	public Map<String, String> replay(Long userId, String lastEventId) {
+		Map<String, String> events = new LinkedHashMap<>();
+		if (lastEventId == null || !EVENT_ID_PATTERN.matcher(lastEventId).matches()) {
+			return events;
+		}
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+			.range(EVENTS_KEY_PREFIX + userId, Range.rightUnbounded(Range.Bound.inclusive(lastEventId)));
+		if (records == null) {
+			return events;
+		}
+		for (MapRecord<String, Object, Object> record : records) {
+			String eventId = record.getId().getValue();
+			if (!eventId.equals(lastEventId)) {
+				events.put(eventId, String.valueOf(record.getValue().get("data")));
+			}
+		}
+		return events;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+			sseService.deliver(Long.parseLong(parts[0]), parts[1], parts[2]);
+		} catch (Exception e) {
+			log.error("SSE 이벤트 처리 실패", e);
+		}
+	}
+}
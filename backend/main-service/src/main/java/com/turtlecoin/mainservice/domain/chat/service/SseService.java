@@ -1,59 +1,111 @@
 package com.turtlecoin.mainservice.domain.chat.service;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.turtlecoin.mainservice.domain.chat.repository.EmitterRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SseService {
 	private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
 	private final EmitterRepository emitterRepository;
+	private final SseStreamHub sseStreamHub;
+	private final SseEventBus sseEventBus;
+	private final ThreadPoolTaskExecutor sseExecutor;
 	private final ObjectMapper objectMapper = new ObjectMapper(); // JSON 변환용 ObjectMapper
 
-	public SseEmitter subscribe(Long userId) throws Exception{
+	// 연결마다 쌓아둘 수 있는 이벤트 수
+	@Value("${notification.sse.buffer-size:64}")
+	private int bufferSize;
+
+	public SseService(EmitterRepository emitterRepository,
+		SseStreamHub sseStreamHub,
+		SseEventBus sseEventBus,
+		@Qualifier("sseExecutor") ThreadPoolTaskExecutor sseExecutor) {
+		this.emitterRepository = emitterRepository;
+		this.sseStreamHub = sseStreamHub;
+		this.sseEventBus = sseEventBus;
+		this.sseExecutor = sseExecutor;
+	}
+
+	// lastEventId : 재연결 시 브라우저가 보내는 Last-Event-ID, 그 이후 알림을 먼저 보낸다.
+	public SseEmitter subscribe(Long userId, String lastEventId) throws Exception{
 		SseEmitter emitter = createEmitter(userId);
+		for (Map.Entry<String, String> event : sseEventBus.replay(userId, lastEventId).entrySet()) {
+			emitter.send(SseEmitter.event().id(event.getKey()).name("sse").data(event.getValue()));
+		}
 		// String jsonData = objectMapper.writeValueAsString("SSE Connected");
 		// emitter.send(SseEmitter.event().id(String.valueOf(userId)).name("sse").data(jsonData));
 		log.info("Subscribed to sse emitter" + userId);
 		return emitter;
 	}
 
+	// SseEmitter 대신 Flux 로 구독 (servlet 스레드를 잡지 않음)
+	public Flux<ServerSentEvent<String>> stream(Long userId, String lastEventId) {
+		log.info("Subscribed to sse stream" + userId);
+		return sseStreamHub.stream(userId, () -> sseEventBus.replay(userId, lastEventId));
+	}
+
+	// 사용자의 연결이 다른 서버에 있을 수 있으므로 SseEventBus 를 거쳐 모든 서버의 deliver 로 전달한다.
 	public void notify(Long userId, Object event) {
-		sendToClient(userId, event);
+		try {
+			sseEventBus.publish(userId, objectMapper.writeValueAsString(event));
+		} catch (JsonProcessingException e) {
+			log.error("SSE 이벤트 직렬화 실패: userId = {}", userId, e);
+		}
 	}
 
-	private void sendToClient(Long id, Object data) {
-		SseEmitter emitter = emitterRepository.get(id);
-		if (emitter != null) {
-			CompletableFuture.runAsync(() -> {
-				try {
-					String jsonData = objectMapper.writeValueAsString(data);
-					emitter.send(SseEmitter.event().id(String.valueOf(id)).name("sse").data(jsonData));
-				} catch (Exception e) {
-					emitter.completeWithError(e);
-					emitterRepository.deleteById(id);
-				}
-			});
+	// 이 서버의 SseEmitter 구독자와 Flux 스트림 구독자에게 같은 이벤트를 보낸다.
+	// eventId 는 재연결 시 Last-Event-ID 로 돌아온다. (Redis 에 남기지 못한 이벤트는 사용자 id)
+	public void deliver(Long userId, String eventId, String jsonData) {
+		String id = eventId != null ? eventId : String.valueOf(userId);
+		sseStreamHub.publish(userId, id, jsonData);
+		sendToClient(userId, id, jsonData);
+	}
+
+	// 사용자의 모든 연결에 보낸다. 이벤트는 연결마다 큐에 쌓였다가 sseExecutor 에서 쓰인다.
+	private void sendToClient(Long userId, String eventId, String jsonData) {
+		Collection<SseConnection> connections = emitterRepository.get(userId);
+		if (connections.isEmpty()) {
+			return;
+		}
+		Set<DataWithMediaType> event = SseEmitter.event().id(eventId).name("sse").data(jsonData).build();
+		for (SseConnection connection : connections) {
+			if (!connection.offer(event)) {
+				log.warn("SSE 연결이 느려서 끊습니다: userId = {}, connectionId = {}", userId, connection.getConnectionId());
+				emitterRepository.delete(userId, connection.getConnectionId());
+				connection.close(sseExecutor);
+				continue;
+			}
+			connection.flush(sseExecutor);
 		}
 	}
 
-	private SseEmitter createEmitter(Long id) {
+	private SseEmitter createEmitter(Long userId) {
 		SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-		emitterRepository.save(id, emitter);
+		String connectionId = UUID.randomUUID().toString();
+		emitterRepository.save(userId, new SseConnection(connectionId, emitter, bufferSize));
 
-		// SSE 종료
-		emitter.onCompletion(() -> emitterRepository.deleteById(id));
-		emitter.onTimeout(() -> emitterRepository.deleteById(id));
-		emitter.onError((e) -> emitterRepository.deleteById(id));
+		// SSE 종료, 같은 사용자의 다른 연결은 그대로 둔다.
+		emitter.onCompletion(() -> emitterRepository.delete(userId, connectionId));
+		emitter.onTimeout(() -> emitterRepository.delete(userId, connectionId));
+		emitter.onError((e) -> emitterRepository.delete(userId, connectionId));
 
 		return emitter;
 	}
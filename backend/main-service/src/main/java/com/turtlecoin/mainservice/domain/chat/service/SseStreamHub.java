@@ -0,0 +1,78 @@
+package com.turtlecoin.mainservice.domain.chat.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+// Flux 기반 알림 SSE 스트림 (/main/notifications/sse/stream/{id})
+// 구독자마다 SseEmitter 와 전송 작업을 두지 않고 사용자별 Sink 하나를 구독하게 하므로 연결당 비용이 작다.
+// SseService.deliver 가 받은 이벤트를 그대로 받아 전달하고, 느린 구독자에게는 기다리지 않고 이벤트를 버린다. (directBestEffort)
+// heartbeat 는 모든 구독자가 타이머 하나를 공유한다.
+@Component
+public class SseStreamHub {
+	private static final String EVENT_NAME = "sse";
+	private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+	private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+	private final Flux<ServerSentEvent<String>> heartbeat;
+
+	public SseStreamHub(@Value("${notification.sse.heartbeat-ms:15000}") long heartbeatMillis) {
+		this.heartbeat = Flux.interval(Duration.ofMillis(heartbeatMillis))
+				.map(tick -> ServerSentEvent.<String>builder().comment(HEARTBEAT_COMMENT).build())
+				.share();
+	}
+
+	// missed : 재연결 시 놓친 이벤트 (이벤트 id -> 이벤트)
+	// 채널에 먼저 들어간 뒤 놓친 이벤트를 읽으므로 그 사이 이벤트는 빠지지 않고 중복될 수만 있다.
+	public Flux<ServerSentEvent<String>> stream(Long userId, Supplier<Map<String, String>> missed) {
+		Flux<ServerSentEvent<String>> replay = Flux.defer(() -> Flux.fromIterable(missed.get().entrySet()))
+				.map(event -> toEvent(event.getKey(), event.getValue()));
+		return Flux.defer(() -> Flux.merge(join(userId).asFlux(), replay, heartbeat))
+				.doFinally(signal -> leave(userId));
+	}
+
+	// 구독자가 없으면 버린다.
+	public void publish(Long userId, String eventId, String data) {
+		Channel channel = channels.get(userId);
+		if (channel == null) {
+			return;
+		}
+		channel.emit(toEvent(eventId, data));
+	}
+
+	private ServerSentEvent<String> toEvent(String eventId, String data) {
+		return ServerSentEvent.builder(data).id(eventId).event(EVENT_NAME).build();
+	}
+
+	private Sinks.Many<ServerSentEvent<String>> join(Long userId) {
+		return channels.compute(userId, (key, channel) -> {
+			Channel joined = channel != null ? channel : new Channel();
+			joined.subscribers++;
+			return joined;
+		}).sink;
+	}
+
+	// 마지막 구독자가 나가면 채널 제거
+	private void leave(Long userId) {
+		channels.computeIfPresent(userId, (key, channel) -> --channel.subscribers == 0 ? null : channel);
+	}
+
+	private static class Channel {
+		private final Sinks.Many<ServerSentEvent<String>> sink = Sinks.many().multicast().directBestEffort();
+		// compute 안에서만 변경
+		private int subscribers;
+
+		// 여러 스레드가 동시에 emit 하면 실패하므로 채널 단위로 직렬화
+		private synchronized void emit(ServerSentEvent<String> event) {
+			sink.tryEmitNext(event);
+		}
+	}
+}
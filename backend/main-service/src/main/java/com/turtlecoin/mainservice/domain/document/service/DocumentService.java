@@ -31,6 +31,7 @@ import com.turtlecoin.mainservice.domain.transaction.service.TransactionService;
 import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
 import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
 import com.turtlecoin.mainservice.domain.turtle.repository.TurtleRepository;
+import com.turtlecoin.mainservice.domain.turtle.service.TurtleEventPublisher;
 import com.turtlecoin.mainservice.domain.turtle.service.TurtleService;
 import com.turtlecoin.mainservice.domain.user.entity.Role;
 import com.turtlecoin.mainservice.domain.user.entity.User;
@@ -55,6 +56,7 @@ public class DocumentService {
 	private final TurtlePhotoRepository turtlePhotoRepository;
 	private final UserRepository userRepository;
 	private final TurtleService turtleService;
+	private final TurtleEventPublisher turtleEventPublisher;
 	private final TransactionService transactionService;
 
 	@Value("${cloud.aws.cloudfront.url}")
@@ -268,6 +270,7 @@ public class DocumentService {
 					.build();
 
 				turtleService.saveTurtle(turtle);
+				turtleEventPublisher.publishCreated(turtle);
 
 				// TurtlePhoto 생성 및 저장
 				int randomNumber = (int)(Math.random() * 6) + 1;
@@ -284,6 +287,7 @@ public class DocumentService {
 				}
 				else{
 					turtle.turtleDie();
+					turtleEventPublisher.publishDied(turtle);
 				}
 			}
 			// 양도양수서류인경우
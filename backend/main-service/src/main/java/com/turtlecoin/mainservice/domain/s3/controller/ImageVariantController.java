@@ -0,0 +1,27 @@
+package com.turtlecoin.mainservice.domain.s3.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.turtlecoin.mainservice.domain.s3.dto.ImageVariants;
+import com.turtlecoin.mainservice.domain.s3.service.ImageVariantService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/main/image")
+public class ImageVariantController {
+	private final ImageVariantService imageVariantService;
+
+	// auction-service 에서 업로드한 이미지의 썸네일/중간 크기 이미지 생성 (원본 주소 -> 변환 이미지 주소)
+	@PostMapping("/variants")
+	public Map<String, ImageVariants> createVariants(@RequestBody List<String> imageUrls) {
+		return imageVariantService.createVariantsAll(imageUrls);
+	}
+}
@@ -0,0 +1,215 @@
+package com.turtlecoin.mainservice.domain.s3.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.turtlecoin.mainservice.domain.s3.dto.ImageVariants;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 업로드된 원본 이미지로 썸네일/중간 크기 JPEG 을 만들어 S3에 올린다.
+// 요청 스레드가 아니라 imageVariantExecutor 에서 처리하고, 실패하면 원본을 그대로 쓰면 되므로 로그만 남긴다.
+// auction-service 의 경매 이미지도 /main/image/variants 로 요청받아 여기서 만든다. (변환 코드는 이 서비스에만 둔다)
+// 변환 이미지 경로 : {디렉토리}/thumb/{파일이름}.jpg, {디렉토리}/medium/{파일이름}.jpg
+@Slf4j
+@Service
+@PropertySource("classpath:s3.properties")
+public class ImageVariantService {
+	private static final String CONTENT_TYPE = "image/jpeg";
+	private static final String CACHE_CONTROL = "public, max-age=31536000";
+
+	private final AmazonS3 amazonS3;
+	private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+	public ImageVariantService(AmazonS3 amazonS3,
+		@Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+		this.amazonS3 = amazonS3;
+		this.imageVariantExecutor = imageVariantExecutor;
+	}
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucket;
+
+	@Value("${cloud.aws.cloudfront.url}")
+	private String cloudFrontUrl;
+
+	@Value("${image.variant.thumbnail-width:320}")
+	private int thumbnailWidth;
+
+	@Value("${image.variant.medium-width:1080}")
+	private int mediumWidth;
+
+	@Value("${image.variant.quality:0.8}")
+	private float quality;
+
+	// 트랜잭션 안이면 커밋 후에, 아니면 바로 변환 작업을 넘긴다.
+	// 변환이 끝난 이미지마다 onCreated(원본 주소, 변환 이미지 주소)를 호출한다.
+	public void generateAfterCommit(List<String> imageUrls, BiConsumer<String, ImageVariants> onCreated) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submit(imageUrls, onCreated);
+				}
+			});
+			return;
+		}
+		submit(imageUrls, onCreated);
+	}
+
+	private void submit(List<String> imageUrls, BiConsumer<String, ImageVariants> onCreated) {
+		for (String imageUrl : imageUrls) {
+			try {
+				imageVariantExecutor.execute(() -> createVariants(imageUrl)
+					.ifPresent(variants -> onCreated.accept(imageUrl, variants)));
+			} catch (TaskRejectedException e) {
+				log.warn("이미지 변환 작업이 밀려 있어 건너뜀: {}", imageUrl);
+			}
+		}
+	}
+
+	// 다른 서비스 요청용, imageVariantExecutor 에서 변환하고 끝날 때까지 기다린다. (변환에 실패한 이미지는 결과에서 빠짐)
+	public Map<String, ImageVariants> createVariantsAll(List<String> imageUrls) {
+		Map<String, CompletableFuture<Optional<ImageVariants>>> futures = new LinkedHashMap<>();
+		for (String imageUrl : imageUrls) {
+			futures.put(imageUrl, CompletableFuture.supplyAsync(() -> createVariants(imageUrl), imageVariantExecutor));
+		}
+		Map<String, ImageVariants> result = new LinkedHashMap<>();
+		futures.forEach((imageUrl, future) -> future.join().ifPresent(variants -> result.put(imageUrl, variants)));
+		return result;
+	}
+
+	public Optional<ImageVariants> createVariants(String imageUrl) {
+		String key = imageUrl.replace(cloudFrontUrl, "");
+		try {
+			BufferedImage original = read(key);
+			if (original == null) {
+				log.warn("변환할 수 없는 이미지 형식: {}", key);
+				return Optional.empty();
+			}
+			String thumbnail = putVariant(original, key, "thumb", thumbnailWidth, imageUrl);
+			String medium = putVariant(original, key, "medium", mediumWidth, imageUrl);
+			return Optional.of(new ImageVariants(thumbnail, medium));
+		} catch (Exception e) {
+			log.warn("이미지 변환 실패: {}", key, e);
+			return Optional.empty();
+		}
+	}
+
+	// 중간 크기보다 훨씬 큰 사진은 디코딩할 때부터 건너뛰며 읽어서 메모리 사용을 줄인다.
+	private BufferedImage read(String key) throws IOException {
+		try (S3Object object = amazonS3.getObject(bucket, key);
+			 InputStream in = object.getObjectContent();
+			 ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(iis, true, true);
+				int subsampling = Math.max(1, reader.getWidth(0) / mediumWidth);
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 원본이 목표 크기보다 작으면 새로 만들지 않고 원본 주소를 쓴다.
+	private String putVariant(BufferedImage original, String key, String variant, int width, String originalUrl) throws IOException {
+		if (original.getWidth() <= width) {
+			return originalUrl;
+		}
+		byte[] bytes = toJpeg(resize(original, width));
+
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentLength(bytes.length);
+		metadata.setContentType(CONTENT_TYPE);
+		metadata.setCacheControl(CACHE_CONTROL);
+		String variantKey = variantKey(key, variant);
+		amazonS3.putObject(new PutObjectRequest(bucket, variantKey, new ByteArrayInputStream(bytes), metadata)
+			.withCannedAcl(CannedAccessControlList.PublicRead));
+		return cloudFrontUrl + variantKey;
+	}
+
+	private BufferedImage resize(BufferedImage original, int width) {
+		int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		try {
+			// JPEG 은 투명도가 없으므로 투명한 PNG 영역이 검게 나오지 않도록 흰 배경을 먼저 칠한다.
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(original, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return resized;
+	}
+
+	private byte[] toJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(ios);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(quality);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+
+	// transaction/uuid_name.png -> transaction/thumb/uuid_name.jpg
+	private String variantKey(String key, String variant) {
+		int slash = key.lastIndexOf('/');
+		String dir = slash >= 0 ? key.substring(0, slash + 1) : "";
+		String fileName = key.substring(slash + 1);
+		int dot = fileName.lastIndexOf('.');
+		String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+		return dir + variant + "/" + baseName + ".jpg";
+	}
+}
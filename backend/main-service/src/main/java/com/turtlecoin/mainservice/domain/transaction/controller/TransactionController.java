@@ -7,6 +7,7 @@ import com.turtlecoin.mainservice.domain.transaction.repository.TransactionRepos
 import com.turtlecoin.mainservice.domain.transaction.service.TransactionService;
 import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
 import com.turtlecoin.mainservice.domain.turtle.repository.TurtleRepository;
+import com.turtlecoin.mainservice.domain.turtle.service.TurtleEventPublisher;
 import com.turtlecoin.mainservice.domain.user.entity.User;
 import com.turtlecoin.mainservice.domain.user.exception.UserNotFoundException;
 import com.turtlecoin.mainservice.domain.user.repository.UserRepository;
@@ -35,12 +36,14 @@ public class TransactionController {
     private final TransactionRepository transactionRepository;
     private final JWTService jwtService;
     private final TurtleRepository turtleRepository;
+    private final TurtleEventPublisher turtleEventPublisher;
 
-    public TransactionController(TransactionService transactionService, JWTService jwtService, TransactionRepository transactionRepository, UserService userService, TurtleRepository turtleRepository) {
+    public TransactionController(TransactionService transactionService, JWTService jwtService, TransactionRepository transactionRepository, UserService userService, TurtleRepository turtleRepository, TurtleEventPublisher turtleEventPublisher) {
         this.transactionService = transactionService;
         this.transactionRepository = transactionRepository;
         this.jwtService = jwtService;
         this.turtleRepository = turtleRepository;
+        this.turtleEventPublisher = turtleEventPublisher;
     }
 
     @GetMapping("/test")
@@ -111,6 +114,7 @@ public class TransactionController {
             }
             transaction.getTurtle().turtleTransfer(user.get());
             turtleRepository.save(transaction.getTurtle());
+            turtleEventPublisher.publishTransferred(transaction.getTurtle());
             transaction.changeStatusToCompleteDocument();
             transactionRepository.save(transaction);
             return new ResponseEntity<>(ResponseVO.success("거래 상태가 정상적으로 업데이트되었습니다."), HttpStatus.OK);
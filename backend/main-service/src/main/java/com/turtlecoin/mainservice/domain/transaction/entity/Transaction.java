@@ -9,6 +9,7 @@ import lombok.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Entity
@@ -51,6 +52,10 @@ public class Transaction extends BaseEntity {
     @Column(name = "auction_flag")
     private Boolean auctionFlag;
 
+    // 경매로 생성된 거래의 경매 id (같은 경매 결과가 중복 수신돼도 거래는 하나만 생성)
+    @Column(name = "auction_id", unique = true)
+    private Long auctionId;
+
     // 구매자 아이디 추가(조회를 위해서)
     @Column(name = "buyer_id", nullable = true)
     private Long buyerId;
@@ -82,6 +87,16 @@ public class Transaction extends BaseEntity {
 
     @Transactional
     public DetailTransactionResponseDto toResponseDTO() {
+        return toResponseDTO(TransactionPhoto::getMediumUrl);
+    }
+
+    // 목록 조회용, 이미지는 썸네일로 전달
+    @Transactional
+    public DetailTransactionResponseDto toListResponseDTO() {
+        return toResponseDTO(TransactionPhoto::getThumbnailUrl);
+    }
+
+    private DetailTransactionResponseDto toResponseDTO(Function<TransactionPhoto, String> imageAddress) {
 
         return DetailTransactionResponseDto.builder()
                 .transactionId(this.id)
@@ -100,7 +115,7 @@ public class Transaction extends BaseEntity {
                         .map(TransactionTag::getTag)
                         .collect(Collectors.toList())) // 태그 리스트
                 .transactionImage(this.transactionPhotos.stream()
-                        .map(TransactionPhoto::getImageAddress)
+                        .map(imageAddress)
                         .collect(Collectors.toList())) // 이미지 경로 리스트
                 .progress(this.progress.name()) // Enum 값 (거래 진행 상황)
                 .sellerImageUrl(this.turtle.getUser().getProfileImage())
@@ -17,6 +17,13 @@ public class TransactionPhoto extends BaseEntity {
     @Column(nullable = false, name = "image_address")
     private String imageAddress;
 
+    // 목록용 썸네일, 상세용 중간 크기 이미지 (업로드 후 백그라운드에서 생성)
+    @Column(name = "thumbnail_address")
+    private String thumbnailAddress;
+
+    @Column(name = "medium_address")
+    private String mediumAddress;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "transaction_id", nullable = false)
     private Transaction transaction;
@@ -30,6 +37,15 @@ public class TransactionPhoto extends BaseEntity {
         this.imageAddress = imageAddress;
     }
 
+    // 변환 이미지가 아직 없으면 원본
+    public String getThumbnailUrl() {
+        return thumbnailAddress != null ? thumbnailAddress : imageAddress;
+    }
+
+    public String getMediumUrl() {
+        return mediumAddress != null ? mediumAddress : imageAddress;
+    }
+
     @Override
     public String toString() {
         return "TransactionPhoto{" +
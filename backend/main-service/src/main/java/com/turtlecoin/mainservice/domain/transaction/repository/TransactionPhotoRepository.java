@@ -0,0 +1,17 @@
+package com.turtlecoin.mainservice.domain.transaction.repository;
+
+import com.turtlecoin.mainservice.domain.transaction.entity.TransactionPhoto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TransactionPhotoRepository extends JpaRepository<TransactionPhoto, Long> {
+    @Transactional
+    @Modifying
+    @Query("update TransactionPhoto p set p.thumbnailAddress = :thumbnailAddress, p.mediumAddress = :mediumAddress where p.imageAddress = :imageAddress")
+    int updateVariants(@Param("imageAddress") String imageAddress,
+                       @Param("thumbnailAddress") String thumbnailAddress,
+                       @Param("mediumAddress") String mediumAddress);
+}
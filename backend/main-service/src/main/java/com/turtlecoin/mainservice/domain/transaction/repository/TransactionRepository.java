@@ -50,4 +50,6 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     Transaction findByTurtle(Turtle turtle);
 
     Optional<Transaction> findTopByTurtleOrderByLastModifiedDateDesc(Turtle turtle);
+
+    boolean existsByAuctionId(Long auctionId);
 }
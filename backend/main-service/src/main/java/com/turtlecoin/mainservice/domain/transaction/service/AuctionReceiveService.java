@@ -1,5 +1,6 @@
 package com.turtlecoin.mainservice.domain.transaction.service;
 
+import com.turtlecoin.mainservice.domain.s3.service.ImageVariantService;
 import com.turtlecoin.mainservice.domain.transaction.dto.AuctionResultDTO;
 import com.turtlecoin.mainservice.domain.transaction.dto.TransactionRequestDto;
 import com.turtlecoin.mainservice.domain.transaction.entity.Transaction;
@@ -29,6 +30,7 @@ public class AuctionReceiveService {
     private final TransactionRepository transactionRepository;
     private final TurtleRepository turtleRepository;
     private final UserRepository userRepository;
+    private final ImageVariantService imageVariantService;
 
     @Transactional
     @RabbitListener(queues = "auction.result.queue")
@@ -38,6 +40,10 @@ public class AuctionReceiveService {
             // 에러 처리 혹은 메시지 무시
             return;
         }
+        if (auctionResultDTO.getAuctionId() != null && transactionRepository.existsByAuctionId(auctionResultDTO.getAuctionId())) {
+            log.info("이미 처리된 경매 결과입니다: auctionId = {}", auctionResultDTO.getAuctionId());
+            return;
+        }
         log.info("Received message with price " + auctionResultDTO.getWinningBid());
         Turtle turtle = turtleRepository.findById(auctionResultDTO.getTurtleId()).get();
         String imageAddress = auctionResultDTO.getImageAddress();
@@ -52,6 +58,7 @@ public class AuctionReceiveService {
                 .weight(auctionResultDTO.getWeight())
                 .turtle(turtle)
                 .auctionFlag(true)
+                .auctionId(auctionResultDTO.getAuctionId())
                 .buyerId(auctionResultDTO.getBuyerId())
                 .buyerUuid(user.get().getUuid())
                 .build();
@@ -62,5 +69,8 @@ public class AuctionReceiveService {
         }
 
         transactionRepository.save(transaction);
+        if (imageAddress != null) {
+            imageVariantService.generateAfterCommit(List.of(imageAddress), transactionService::updatePhotoVariants);
+        }
     }
 }
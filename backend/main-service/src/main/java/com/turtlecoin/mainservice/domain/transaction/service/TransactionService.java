@@ -1,6 +1,8 @@
 package com.turtlecoin.mainservice.domain.transaction.service;
 
+import com.turtlecoin.mainservice.domain.s3.dto.ImageVariants;
 import com.turtlecoin.mainservice.domain.s3.service.ImageUploadService;
+import com.turtlecoin.mainservice.domain.s3.service.ImageVariantService;
 import com.turtlecoin.mainservice.domain.transaction.dto.DetailTransactionResponseDto;
 import com.turtlecoin.mainservice.domain.transaction.dto.TransactionDto;
 import com.turtlecoin.mainservice.domain.transaction.dto.TransactionRequestDto;
@@ -10,6 +12,7 @@ import com.turtlecoin.mainservice.domain.transaction.entity.TransactionProgress;
 import com.turtlecoin.mainservice.domain.transaction.entity.TransactionTag;
 import com.turtlecoin.mainservice.domain.transaction.exception.DuplicatedEnrollTransaction;
 import com.turtlecoin.mainservice.domain.transaction.exception.TransactionNotFoundException;
+import com.turtlecoin.mainservice.domain.transaction.repository.TransactionPhotoRepository;
 import com.turtlecoin.mainservice.domain.transaction.repository.TransactionRepository;
 import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
 import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
@@ -38,21 +41,26 @@ public class TransactionService {
     private final TurtleRepository turtleRepository;
     private final TransactionRepository transactionRepository;
     private final JWTService jwtService;
+    private final ImageVariantService imageVariantService;
+    private final TransactionPhotoRepository transactionPhotoRepository;
 
     public Transaction findTransactionById(Long id) {
         return transactionRepository.findById(id).orElse(null);
     }
 
 
-    public TransactionService(ImageUploadService imageUploadService, TurtleRepository turtleRepository, TransactionRepository transactionRepository, JWTService jwtService) {
+    public TransactionService(ImageUploadService imageUploadService, TurtleRepository turtleRepository, TransactionRepository transactionRepository, JWTService jwtService,
+                              ImageVariantService imageVariantService, TransactionPhotoRepository transactionPhotoRepository) {
         this.imageUploadService = imageUploadService;
         this.turtleRepository = turtleRepository;
         this.transactionRepository = transactionRepository;
         this.jwtService = jwtService;
+        this.imageVariantService = imageVariantService;
+        this.transactionPhotoRepository = transactionPhotoRepository;
     }
 
     public List<DetailTransactionResponseDto> findAllTransactions(User user) {
-        return transactionRepository.findAllByUser(user.getId()).stream().map(Transaction::toResponseDTO).collect(Collectors.toList());
+        return transactionRepository.findAllByUser(user.getId()).stream().map(Transaction::toListResponseDTO).collect(Collectors.toList());
     }
 
     // 거래 등록하는 서비스
@@ -98,6 +106,8 @@ public class TransactionService {
             }
             // 저장된 거래 정보를 데이터베이스에 저장
             transactionRepository.save(savedTransaction);
+            // 썸네일/중간 크기 이미지는 백그라운드에서 생성
+            imageVariantService.generateAfterCommit(imageUrls, this::updatePhotoVariants);
 
         }catch(UserNotFoundException e){
             e.printStackTrace();
@@ -149,7 +159,7 @@ public class TransactionService {
             );
             Map<String,Object> data = new HashMap<>();
             List<DetailTransactionResponseDto> transactionDtos = transactionPage.getContent().stream()
-                    .map(Transaction::toResponseDTO)  // Transaction에서 DTO로 변환하는 메서드 호출
+                    .map(Transaction::toListResponseDTO)  // Transaction에서 DTO로 변환하는 메서드 호출
                     .collect(Collectors.toList());
 
             data.put("cnt",transactionDtos.size());
@@ -189,6 +199,11 @@ public class TransactionService {
         }
     }
 
+    // 변환 이미지 주소 저장
+    public void updatePhotoVariants(String imageAddress, ImageVariants variants) {
+        transactionPhotoRepository.updateVariants(imageAddress, variants.thumbnailAddress(), variants.mediumAddress());
+    }
+
     // string을 TransactionPhoto로 변환하는 로직
     public List<TransactionPhoto> stringToDto(List<String> imageUrls, Transaction transaction) {
         List<TransactionPhoto> transactionPhotos = new ArrayList<>();
@@ -1,6 +1,7 @@
 package com.turtlecoin.mainservice.domain.turtle.controller;
 
 import com.turtlecoin.mainservice.domain.turtle.dto.AuctionTurtleInfoDTO;
+import com.turtlecoin.mainservice.domain.turtle.dto.TurtleEventDTO;
 import com.turtlecoin.mainservice.domain.turtle.dto.TurtleResponseDTO;
 import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
 import com.turtlecoin.mainservice.domain.turtle.service.TurtleService;
@@ -29,6 +30,20 @@ public class TurtleController {
         return turtleService.getFilteredTurtles(gender, minSize, maxSize);
     }
 
+    // auction-service 의 거북이 복사본 초기 적재용 (id 순서로 lastId 다음부터 size 개)
+    @GetMapping("/snapshot")
+    public List<TurtleEventDTO> getTurtleSnapshot(
+            @RequestParam(value = "lastId", defaultValue = "0") Long lastId,
+            @RequestParam(value = "size", defaultValue = "500") int size) {
+        return turtleService.getTurtleSnapshot(lastId, size);
+    }
+
+    // auction-service 에서 여러 거북이 정보를 한 번에 조회 (없는 거북이는 제외)
+    @GetMapping("/batch")
+    public List<TurtleResponseDTO> getTurtlesByIds(@RequestParam("ids") List<Long> turtleIds) {
+        return turtleService.getTurtlesByIds(turtleIds);
+    }
+
     @GetMapping("/{turtleId}")
     public TurtleResponseDTO getTurtleById (@PathVariable("turtleId") Long turtleId) {
         log.info("거북이 아이디로 조회 시도");
@@ -0,0 +1,22 @@
+package com.turtlecoin.mainservice.domain.turtle.dto;
+
+import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
+import lombok.*;
+
+// auction-service 의 거북이 조회용 복사본을 갱신하기 위한 거북이 변경 정보
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TurtleEventDTO {
+    private Long turtleId;
+    private Gender gender;
+    private int weight;
+    private String scientificName;
+    private Long userId;
+    private boolean dead;
+    // CREATED, TRANSFERRED, DIED, SNAPSHOT
+    private String eventType;
+    // 이벤트 발생 시각 (epoch ms), 순서가 뒤바뀐 이벤트를 걸러내는 데 사용
+    private Long occurredAt;
+}
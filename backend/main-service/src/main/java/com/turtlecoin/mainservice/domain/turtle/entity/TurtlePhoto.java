@@ -26,4 +26,12 @@ public class TurtlePhoto extends BaseEntity {
 
     @Column(nullable = false)
     private String image;
+
+    // 목록용 썸네일 (업로드 후 백그라운드에서 생성)
+    private String thumbnail;
+
+    // 썸네일이 아직 없으면 원본
+    public String getThumbnailUrl() {
+        return thumbnail != null ? thumbnail : image;
+    }
 }
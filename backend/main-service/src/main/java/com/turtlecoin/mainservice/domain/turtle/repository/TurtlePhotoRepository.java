@@ -2,6 +2,14 @@ package com.turtlecoin.mainservice.domain.turtle.repository;
 
 import com.turtlecoin.mainservice.domain.turtle.entity.TurtlePhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TurtlePhotoRepository extends JpaRepository<TurtlePhoto, Long> {
+    @Transactional
+    @Modifying
+    @Query("update TurtlePhoto p set p.thumbnail = :thumbnail where p.image = :image")
+    int updateThumbnail(@Param("image") String image, @Param("thumbnail") String thumbnail);
 }
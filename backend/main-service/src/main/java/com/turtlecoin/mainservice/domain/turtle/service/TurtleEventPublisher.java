@@ -0,0 +1,85 @@
+package com.turtlecoin.mainservice.domain.turtle.service;
+
+import com.turtlecoin.mainservice.domain.turtle.dto.TurtleEventDTO;
+import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 거북이 생성/양도/폐사를 turtle.event.exchange 로 발행
+// 트랜잭션 안에서 호출되면 커밋된 뒤에 발행한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TurtleEventPublisher {
+    public static final String TURTLE_EVENT_EXCHANGE = "turtle.event.exchange";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public void publishCreated(Turtle turtle) {
+        publish(turtle, "CREATED");
+    }
+
+    public void publishTransferred(Turtle turtle) {
+        publish(turtle, "TRANSFERRED");
+    }
+
+    public void publishDied(Turtle turtle) {
+        publish(turtle, "DIED");
+    }
+
+    private static TurtleEventDTO toEvent(Turtle turtle, String eventType) {
+        return toEvent(turtle, eventType, System.currentTimeMillis());
+    }
+
+    // 스냅샷은 조회 시각이 아니라 마지막 수정 시각을 이벤트 시각으로 쓴다.
+    // (조회 뒤에 커밋된 변경의 이벤트가 스냅샷보다 오래된 것으로 취급돼 버려지지 않도록)
+    public static TurtleEventDTO toSnapshot(Turtle turtle) {
+        LocalDateTime modified = turtle.getLastModifiedDate();
+        long occurredAt = modified != null ? modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+        return toEvent(turtle, "SNAPSHOT", occurredAt);
+    }
+
+    private static TurtleEventDTO toEvent(Turtle turtle, String eventType, long occurredAt) {
+        return TurtleEventDTO.builder()
+                .turtleId(turtle.getId())
+                .gender(turtle.getGender())
+                .weight(turtle.getWeight())
+                .scientificName(turtle.getScientificName())
+                .userId(turtle.getUser().getId())
+                .dead(turtle.isDead())
+                .eventType(eventType)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    private void publish(Turtle turtle, String eventType) {
+        TurtleEventDTO event = toEvent(turtle, eventType);
+        String routingKey = "turtle." + eventType.toLowerCase();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(routingKey, event);
+                }
+            });
+            return;
+        }
+        send(routingKey, event);
+    }
+
+    private void send(String routingKey, TurtleEventDTO event) {
+        try {
+            rabbitTemplate.convertAndSend(TURTLE_EVENT_EXCHANGE, routingKey, event);
+        } catch (Exception e) {
+            // auction-service 가 시작할 때와 주기적으로 스냅샷을 받아 다시 맞추므로 요청은 실패시키지 않는다.
+            log.error("거북이 이벤트 발행 실패: turtleId = {}, type = {}", event.getTurtleId(), event.getEventType(), e);
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.turtlecoin.mainservice.domain.turtle.service;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.turtlecoin.mainservice.domain.s3.service.ImageVariantService;
 import com.turtlecoin.mainservice.domain.turtle.dto.AuctionTurtleInfoDTO;
+import com.turtlecoin.mainservice.domain.turtle.dto.TurtleEventDTO;
 import com.turtlecoin.mainservice.domain.turtle.dto.TurtleResponseDTO;
 import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
 import com.turtlecoin.mainservice.domain.turtle.entity.QTurtle;
@@ -20,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -32,6 +35,7 @@ public class TurtleService {
     private final TurtleRepository turtleRepository;
     private final TurtlePhotoRepository turtlePhotoRepository;
     private final JPAQueryFactory jpaQueryFactory;
+    private final ImageVariantService imageVariantService;
 
     //거북이를 필터링해서 auction-service에 넘겨주기
     public List<AuctionTurtleInfoDTO> getFilteredTurtles(Gender gender, Double minSize, Double maxSize) {
@@ -84,6 +88,34 @@ public class TurtleService {
     @Transactional
     public void saveTurtlePhoto(TurtlePhoto turtlePhoto){
         turtlePhotoRepository.save(turtlePhoto);
+        // 목록용 썸네일은 커밋 후 백그라운드에서 생성
+        imageVariantService.generateAfterCommit(List.of(turtlePhoto.getImage()),
+                (image, variants) -> turtlePhotoRepository.updateThumbnail(image, variants.thumbnailAddress()));
+    }
+
+    public List<TurtleEventDTO> getTurtleSnapshot(Long lastId, int size) {
+        QTurtle turtle = QTurtle.turtle;
+        return jpaQueryFactory.selectFrom(turtle)
+                .where(turtle.id.gt(lastId))
+                .orderBy(turtle.id.asc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(TurtleEventPublisher::toSnapshot)
+                .toList();
+    }
+
+    public List<TurtleResponseDTO> getTurtlesByIds(List<Long> turtleIds) {
+        return turtleRepository.findAllById(new HashSet<>(turtleIds)).stream()
+                .map(turtle -> TurtleResponseDTO.builder()
+                        .id(turtle.getId())
+                        .weight(turtle.getWeight())
+                        .gender(turtle.getGender())
+                        .birth(turtle.getBirth())
+                        .scientificName(turtle.getScientificName())
+                        .userId(turtle.getUser().getId())
+                        .build())
+                .toList();
     }
 
     public TurtleResponseDTO getTurtleById(Long turtleId) {
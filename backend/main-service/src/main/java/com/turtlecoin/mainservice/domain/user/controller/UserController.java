@@ -8,6 +8,7 @@ import com.turtlecoin.mainservice.domain.user.entity.User;
 import com.turtlecoin.mainservice.domain.user.repository.UserRepository;
 import com.turtlecoin.mainservice.domain.user.service.EmailService;
 import com.turtlecoin.mainservice.domain.user.service.JWTService;
+import com.turtlecoin.mainservice.domain.user.service.UserProfileEventPublisher;
 import com.turtlecoin.mainservice.domain.user.service.UserService;
 import com.turtlecoin.mainservice.domain.user.exception.UserNotFoundException;
 import com.turtlecoin.mainservice.global.response.ResponseVO;
@@ -37,15 +38,17 @@ public class UserController {
     private final TransactionService transactionService;
     private final UserRepository userRepository;
     private final ImageUploadService imageUploadService;
+    private final UserProfileEventPublisher userProfileEventPublisher;
 
 
-    public UserController(EmailService emailService, UserService userService, JWTService jwtService, TransactionService transactionService, UserRepository userRepository, ImageUploadService imageUploadService) {
+    public UserController(EmailService emailService, UserService userService, JWTService jwtService, TransactionService transactionService, UserRepository userRepository, ImageUploadService imageUploadService, UserProfileEventPublisher userProfileEventPublisher) {
         this.emailService = emailService;
         this.userService = userService;
         this.jwtService = jwtService;
         this.transactionService = transactionService;
         this.userRepository = userRepository;
         this.imageUploadService = imageUploadService;
+        this.userProfileEventPublisher = userProfileEventPublisher;
     }
 
     @PostMapping(value="/join",consumes={MediaType.APPLICATION_JSON_VALUE, MediaType.MULTIPART_FORM_DATA_VALUE})
@@ -112,6 +115,12 @@ public class UserController {
         );
     }
 
+    // auction-service 에서 여러 사용자 정보를 한 번에 조회 (없는 사용자는 제외)
+    @GetMapping("/batch")
+    public List<UserResponseDTO> getUsersByIds(@RequestParam("ids") List<Long> userIds) {
+        return userService.getByUserIds(userIds);
+    }
+
     @GetMapping("/{userId}")
     // 유저 없을 때 에러 던져주기
     public UserResponseDTO getUserById(@PathVariable("userId") Long userId) {
@@ -171,6 +180,7 @@ public class UserController {
             String url = imageUploadService.upload(image,"user");
             user.get().modifyProfileImage(url);
             userRepository.save(user.get());
+            userProfileEventPublisher.publishProfileChanged(user.get().getId());
             return new ResponseEntity<>(ResponseVO.success("이미지가 성공적으로 수정 되었습니다.","url",url),HttpStatus.OK);
         }catch(UserNotFoundException e){
             return new ResponseEntity<>(ResponseVO.failure("401",e.getMessage()),HttpStatus.UNAUTHORIZED);
@@ -0,0 +1,5 @@
+package com.turtlecoin.mainservice.domain.user.dto;
+
+// 목록 화면에 보여줄 사용자 닉네임/프로필 이미지 (UserProfileCache 에 보관)
+public record UserProfile(String nickname, String profileImage) {
+}
@@ -0,0 +1,94 @@
+package com.turtlecoin.mainservice.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.turtlecoin.mainservice.domain.user.dto.UserProfile;
+import com.turtlecoin.mainservice.domain.user.dto.UserResponseDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 채팅 기록처럼 같은 사용자 몇 명이 반복해서 나오는 목록의 닉네임/프로필 이미지 조회용 로컬 캐시
+// 캐시에 없는 사용자만 모아서 한 번에 조회하고, 프로필이 바뀌면 user:profile:changed 알림으로 모든 서버에서 비운다.
+// 조회 중에 알림이 오면 조회 결과가 변경 전 값일 수 있으므로, 사용자별 비운 시점(stamp)을 남겨두고
+// 조회를 시작한 뒤에 비워진 사용자는 결과를 넣은 다음 다시 비운다.
+@Slf4j
+@Component
+public class UserProfileCache implements MessageListener {
+    private final UserService userService;
+    private final Cache<Long, UserProfile> profiles;
+    private final Cache<Long, Long> invalidatedStamps;
+    private final AtomicLong stamp = new AtomicLong();
+
+    public UserProfileCache(UserService userService,
+                            @Value("${user.profile-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user.profile-cache.expire-after-ms:60000}") long expireAfterMillis) {
+        this.userService = userService;
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .build();
+        this.invalidatedStamps = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterMillis))
+                .build();
+    }
+
+    // 중복 id 는 한 번만 조회하고, 찾지 못한 사용자는 결과에서 빠진다.
+    public Map<Long, UserProfile> getAll(Collection<Long> userIds) {
+        Set<Long> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, UserProfile> result = new HashMap<>(profiles.getAllPresent(ids));
+        List<Long> missing = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+        long loadStamp = stamp.get();
+        for (UserResponseDTO user : userService.getByUserIds(missing)) {
+            UserProfile profile = new UserProfile(user.getNickname(), user.getProfileImage());
+            result.put(user.getUserId(), profile);
+            putIfNotInvalidated(user.getUserId(), profile, loadStamp);
+        }
+        return result;
+    }
+
+    public void invalidate(Long userId) {
+        invalidatedStamps.put(userId, stamp.incrementAndGet());
+        profiles.invalidate(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 프로필 변경 알림: {}", body);
+        }
+    }
+
+    // 넣은 다음에 확인해야 확인과 넣기 사이에 들어온 알림도 놓치지 않는다.
+    private void putIfNotInvalidated(Long userId, UserProfile profile, long loadStamp) {
+        profiles.put(userId, profile);
+        Long invalidatedStamp = invalidatedStamps.getIfPresent(userId);
+        if (invalidatedStamp != null && invalidatedStamp > loadStamp) {
+            profiles.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.turtlecoin.mainservice.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+// 사용자 프로필(닉네임, 프로필 이미지)이 바뀌면 다른 서비스의 사용자 캐시를 비우도록 알림
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserProfileEventPublisher {
+    public static final String USER_PROFILE_CHANGED_CHANNEL = "user:profile:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void publishProfileChanged(Long userId) {
+        try {
+            redisTemplate.convertAndSend(USER_PROFILE_CHANGED_CHANNEL, userId.toString());
+        } catch (Exception e) {
+            // 캐시는 TTL 로도 만료되므로 알림 실패가 요청을 실패시키지 않도록 한다.
+            log.warn("사용자 프로필 변경 알림 실패: userId = {}", userId, e);
+        }
+    }
+}
@@ -132,6 +132,20 @@ public class UserService {
                 .build();
     }
 
+    public List<UserResponseDTO> getByUserIds(List<Long> userIds) {
+        return userRepository.findAllById(new HashSet<>(userIds)).stream()
+                .map(user -> UserResponseDTO.builder()
+                        .userId(user.getId())
+                        .email(user.getEmail())
+                        .nickname(user.getNickname())
+                        .name(user.getName())
+                        .address(user.getAddress())
+                        .birth(user.getBirth())
+                        .profileImage(user.getProfileImage())
+                        .build())
+                .toList();
+    }
+
     public String getProfileImageByUserId(Long userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -173,13 +187,13 @@ public class UserService {
                             .weight(turtle.getWeight())
                             .birth(turtle.getBirth())
                             .dead(turtle.isDead())
-                            .imageAddress(turtle.getTurtlePhotos().isEmpty() ? null : turtle.getTurtlePhotos().get(0).getImage())
+                            .imageAddress(turtle.getTurtlePhotos().isEmpty() ? null : turtle.getTurtlePhotos().get(0).getThumbnailUrl())
                             .weight(turtle.getWeight())
                             .gender(turtle.getGender())
                             .motherName(turtle.getMom() != null ? turtle.getMom().getName() : "")
-                            .motherImageAddress(turtle.getMom() != null ? turtle.getMom().getTurtlePhotos().get(0).getImage() : "")
+                            .motherImageAddress(turtle.getMom() != null ? turtle.getMom().getTurtlePhotos().get(0).getThumbnailUrl() : "")
                             .fatherName(turtle.getDad() != null ? turtle.getDad().getName() : "")
-                            .fatherImageAddress(turtle.getDad() != null ? turtle.getDad().getTurtlePhotos().get(0).getImage() : "")
+                            .fatherImageAddress(turtle.getDad() != null ? turtle.getDad().getTurtlePhotos().get(0).getThumbnailUrl() : "")
                             .build())
                     .toList();
             int cnt = dtos.size();
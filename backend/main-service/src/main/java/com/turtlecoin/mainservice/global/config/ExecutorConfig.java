@@ -0,0 +1,45 @@
+package com.turtlecoin.mainservice.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+	// 아래 스레드 풀을 등록하면 Spring Boot 가 기본 applicationTaskExecutor 를 만들지 않으므로 직접 등록한다.
+	// (MVC 비동기 응답(SseEmitter, Flux), @Async 가 사용, spring.task.execution.* 설정 적용)
+	@Primary
+	@Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+	public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+		return builder.build();
+	}
+
+	// 업로드된 이미지로 썸네일/중간 크기 이미지를 만드는 스레드 풀
+	// 이미지 디코딩에 메모리를 많이 쓰므로 동시에 처리하는 수를 작게 제한한다.
+	@Bean
+	public ThreadPoolTaskExecutor imageVariantExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(500);
+		executor.setThreadNamePrefix("image-variant-");
+		executor.initialize();
+		return executor;
+	}
+
+	// SSE 알림을 쓰는 스레드 풀
+	// 연결마다 비우는 작업이 한 번에 하나만 올라오므로 큐에는 연결 수만큼만 쌓인다.
+	@Bean
+	public ThreadPoolTaskExecutor sseExecutor(@Value("${notification.sse.parallelism:4}") int parallelism) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setQueueCapacity(10000);
+		executor.setThreadNamePrefix("sse-");
+		executor.initialize();
+		return executor;
+	}
+}
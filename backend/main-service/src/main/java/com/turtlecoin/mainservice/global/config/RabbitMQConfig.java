@@ -4,6 +4,7 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -46,6 +47,12 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(auctionResultQueue).to(auctionResultExchange).with("auction.result.key");
     }
 
+    // 거북이 생성/양도/폐사 이벤트 (auction-service 에서 구독)
+    @Bean
+    TopicExchange turtleEventExchange() {
+        return new TopicExchange("turtle.event.exchange");
+    }
+
     // 4. 메시지 전송/수신을 위한 JSON 메시지 컨버터 설정
     @Bean
     public MessageConverter messageConverter() {
@@ -1,14 +1,23 @@
 package com.turtlecoin.mainservice.global.config;
 
+import com.turtlecoin.mainservice.domain.chat.service.SseEventBus;
+import com.turtlecoin.mainservice.domain.user.service.UserProfileCache;
+import com.turtlecoin.mainservice.domain.user.service.UserProfileEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
 
 @Configuration
 @EnableRedisRepositories
@@ -41,4 +50,25 @@ public class RedisConfig {
 
         return redisTemplate;
     }
+
+    // 다른 서버에서 publish 한 SSE 알림, 프로필 변경 알림 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       SseEventBus sseEventBus,
+                                                                       UserProfileCache userProfileCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(sseEventBus, new ChannelTopic(SseEventBus.CHANNEL));
+        container.addMessageListener(userProfileCache, new ChannelTopic(UserProfileEventPublisher.USER_PROFILE_CHANGED_CHANNEL));
+        return container;
+    }
+
+    // SSE 이벤트 기록 + publish 스크립트
+    @Bean
+    public RedisScript<String> ssePublishScript() {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/sse_publish.lua")));
+        script.setResultType(String.class);
+        return script;
+    }
 }
@@ -0,0 +1,14 @@
+-- SSE 이벤트를 최근 이벤트 stream 에 남기고 모든 서버에 publish
+-- KEYS[1] : sse_events_user_{userId}
+-- ARGV[1] : pub/sub 채널
+-- ARGV[2] : userId
+-- ARGV[3] : 직렬화된 이벤트
+-- ARGV[4] : 보관할 최근 이벤트 수
+-- ARGV[5] : 보관 시간 (ms)
+-- 반환값 : 이벤트 id (stream entry id, SSE id 로 사용)
+
+local eventId = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[4], '*', 'data', ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+-- {userId}|{이벤트 id}|{이벤트}
+redis.call('PUBLISH', ARGV[1], ARGV[2] .. '|' .. eventId .. '|' .. ARGV[3])
+return eventId
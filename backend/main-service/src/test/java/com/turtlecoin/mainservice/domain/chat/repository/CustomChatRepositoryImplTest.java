@@ -0,0 +1,120 @@
+package com.turtlecoin.mainservice.domain.chat.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.turtlecoin.mainservice.domain.chat.entity.Chat;
+import com.turtlecoin.mainservice.domain.chat.entity.ChatMessage;
+import com.turtlecoin.mainservice.domain.chat.entity.ChatMessageBucket;
+import com.turtlecoin.mainservice.domain.chat.entity.ChatTextMessage;
+
+// 버킷 경계를 넘는 페이지, 순번과 다른 순서로 추가된 메세지, 비어 있는 순번을 순번 기준으로 읽는지 확인
+class CustomChatRepositoryImplTest {
+	private static final ObjectId CHAT_ID = new ObjectId();
+	private static final Long SMALL_USER_ID = 1L;
+	private static final Long BIG_USER_ID = 2L;
+
+	private MongoTemplate mongoTemplate;
+	private CustomChatRepositoryImpl chatRepository;
+	private List<ChatMessageBucket> buckets;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		chatRepository = new CustomChatRepositoryImpl(mongoTemplate);
+		buckets = new ArrayList<>();
+		// 저장된 버킷 중 조회 조건의 버킷 범위에 드는 것만 돌려준다.
+		when(mongoTemplate.find(any(Query.class), eq(ChatMessageBucket.class))).thenAnswer(invocation -> {
+			Document range = (Document)invocation.<Query>getArgument(0).getQueryObject().get("seq");
+			long from = ((Number)range.get("$gte")).longValue();
+			long to = ((Number)range.get("$lte")).longValue();
+			return buckets.stream().filter(bucket -> bucket.getSeq() >= from && bucket.getSeq() <= to).toList();
+		});
+	}
+
+	@Test
+	void 버킷_경계를_넘는_페이지는_두_버킷에서_순번_역순으로_읽는다() {
+		saveMessages(LongStream.range(0, 250).boxed().toList());
+
+		// 최신부터 40번째 이후 20개 = 순번 209 ~ 190 (버킷 1, 2)
+		List<ChatMessage> page = getChatByPage(2, 20, 250);
+
+		assertEquals(seqs(209, 190), page.stream().map(ChatMessage::getSeq).toList());
+	}
+
+	@Test
+	void 버킷_안의_순서가_아니라_순번으로_정렬한다() {
+		List<Long> seqs = new ArrayList<>(LongStream.range(0, 120).boxed().toList());
+		Collections.shuffle(seqs);
+		saveMessages(seqs);
+
+		List<ChatMessage> first = getChatByPage(0, 30, 120);
+		List<ChatMessage> second = getChatByPage(1, 30, 120);
+
+		assertEquals(seqs(119, 90), first.stream().map(ChatMessage::getSeq).toList());
+		assertEquals(seqs(89, 60), second.stream().map(ChatMessage::getSeq).toList());
+	}
+
+	@Test
+	void 비어_있는_순번은_건너뛰고_다음_페이지와_겹치지_않는다() {
+		List<Long> seqs = new ArrayList<>(LongStream.range(0, 50).boxed().toList());
+		// 순번 45 를 받은 뒤 버킷에 추가하지 못한 경우
+		seqs.remove(Long.valueOf(45));
+		saveMessages(seqs);
+
+		List<ChatMessage> first = getChatByPage(0, 10, 50);
+		List<ChatMessage> second = getChatByPage(1, 10, 50);
+
+		assertEquals(Arrays.asList(49L, 48L, 47L, 46L, 44L, 43L, 42L, 41L, 40L), first.stream().map(ChatMessage::getSeq).toList());
+		assertEquals(seqs(39, 30), second.stream().map(ChatMessage::getSeq).toList());
+	}
+
+	private List<ChatMessage> getChatByPage(int page, int size, long messageCount) {
+		Chat chat = Chat.builder()
+			.id(CHAT_ID)
+			.participants(Arrays.asList(SMALL_USER_ID, BIG_USER_ID))
+			.messageCount(messageCount)
+			.build();
+		when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), eq(Chat.class))).thenReturn(chat);
+		return chatRepository.getChatByPage(SMALL_USER_ID, BIG_USER_ID, SMALL_USER_ID, page, size);
+	}
+
+	// 주어진 순서대로 각 순번의 버킷에 추가
+	private void saveMessages(List<Long> seqs) {
+		List<List<ChatMessage>> messages = new ArrayList<>();
+		for (Long seq : seqs) {
+			int bucket = (int)(seq / ChatMessageBucket.SIZE);
+			while (messages.size() <= bucket) {
+				messages.add(new ArrayList<>());
+			}
+			messages.get(bucket).add(ChatTextMessage.builder().seq(seq).sender(SMALL_USER_ID).text("message " + seq).build());
+		}
+		for (int bucket = 0; bucket < messages.size(); bucket++) {
+			buckets.add(ChatMessageBucket.builder()
+				.chatId(CHAT_ID)
+				.seq((long)bucket)
+				.count(messages.get(bucket).size())
+				.messages(messages.get(bucket))
+				.build());
+		}
+	}
+
+	private static List<Long> seqs(long newest, long oldest) {
+		return LongStream.rangeClosed(oldest, newest).map(seq -> newest + oldest - seq).boxed().toList();
+	}
+}